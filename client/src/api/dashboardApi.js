@@ -0,0 +1,32 @@
+const API_BASE_URL = `${import.meta.env.VITE_API_BASE_URL}/dashboard`
+
+/**
+ * 대시보드 스냅샷 조회 API
+ * 결제 상태, 수임 동의 상태, 읽지 않은 알람 개수, 최신 알람 목록을 한 번에 조회
+ * cache: 'no-cache'로 매번 ETag(If-None-Match)로 재검증하여 바뀐 것이 없으면 브라우저 캐시의 본문을 사용
+ */
+export const getDashboardApi = async (userId) => {
+  const response = await fetch(`${API_BASE_URL}/${userId}`, {
+    method: 'GET',
+    cache: 'no-cache',
+    headers: {
+      'Content-Type': 'application/json',
+    }
+  })
+
+  if (!response.ok) {
+    throw new Error(`HTTP error! status: ${response.status}`)
+  }
+
+  const result = await response.json()
+
+  if (result.code !== 'SUCCESS') {
+    throw new Error(result.message || '대시보드 조회에 실패했습니다.')
+  }
+
+  return {
+    success: true,
+    message: result.message,
+    data: result.data
+  }
+}
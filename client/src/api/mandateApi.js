@@ -117,10 +117,16 @@ export const completeMandateApi = async (userId) => {
 }
 
 /**
- * 모든 수임 동의 내역 조회 API (세무사용)
+ * 수임 동의 내역 조회 API (세무사용, 페이지 단위)
+ * 응답 data: { items, nextCursor, counts } (counts는 첫 페이지에만 포함)
  */
-export const getMandateListApi = async () => {
-  const response = await fetch(`${API_BASE_URL}/list`, {
+export const getMandateListApi = async (status, cursor, limit) => {
+  const params = new URLSearchParams()
+  if (status && status !== 'ALL') params.append('status', status)
+  if (cursor) params.append('cursor', cursor)
+  if (limit) params.append('limit', limit)
+
+  const response = await fetch(`${API_BASE_URL}/list?${params}`, {
     method: 'GET',
     headers: {
       'Content-Type': 'application/json',
@@ -144,3 +150,63 @@ export const getMandateListApi = async () => {
   }
 }
 
+
+/**
+ * 수임 동의 내역 변경분 조회 API (세무사용)
+ * 변경이 없으면(304) null, 있으면 { items, version, hasMore } 반환
+ */
+export const getMandateListChangesApi = async (since) => {
+  const response = await fetch(`${API_BASE_URL}/list/changes?since=${since}`, {
+    method: 'GET',
+    headers: {
+      'Content-Type': 'application/json',
+    }
+  })
+
+  if (response.status === 304) {
+    return null
+  }
+
+  if (!response.ok) {
+    throw new Error(`HTTP error! status: ${response.status}`)
+  }
+
+  const result = await response.json()
+  
+  if (result.code !== 'SUCCESS') {
+    throw new Error(result.message || '수임 동의 변경분 조회에 실패했습니다.')
+  }
+
+  return result.data
+}
+
+/**
+ * 처리할 수임 동의 신청 배정 API (세무사용)
+ * 이미 배정받은 회원은 배정이 연장되고, 모자란 만큼 새로 배정된다.
+ * 응답 data: { items, leaseSeconds }
+ */
+export const claimMandateRequestsApi = async (taxAccountantId, limit) => {
+  const response = await fetch(`${API_BASE_URL}/claim`, {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json',
+    },
+    body: JSON.stringify({ taxAccountantId, limit })
+  })
+
+  if (!response.ok) {
+    throw new Error(`HTTP error! status: ${response.status}`)
+  }
+
+  const result = await response.json()
+  
+  if (result.code !== 'SUCCESS') {
+    throw new Error(result.message || '수임 동의 신청 배정에 실패했습니다.')
+  }
+
+  return {
+    success: true,
+    message: result.message,
+    data: result.data
+  }
+}
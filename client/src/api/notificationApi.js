@@ -2,9 +2,14 @@ const API_BASE_URL = `${import.meta.env.VITE_API_BASE_URL}/notifications`
 
 /**
  * 알람 목록 조회 API
+ * before(마지막으로 받은 notificationId)를 넘기면 그보다 오래된 알람을 limit개 조회
  */
-export const getNotificationsApi = async (userId) => {
-  const response = await fetch(`${API_BASE_URL}?userId=${userId}`, {
+export const getNotificationsApi = async (userId, before, limit) => {
+  const params = new URLSearchParams({ userId })
+  if (before) params.append('before', before)
+  if (limit) params.append('limit', limit)
+
+  const response = await fetch(`${API_BASE_URL}?${params}`, {
     method: 'GET',
     headers: {
       'Content-Type': 'application/json',
@@ -83,3 +88,56 @@ export const getUnreadCountApi = async (userId) => {
   }
 }
 
+
+/**
+ * 알람 실시간 스트림 구독 (SSE)
+ * 새 알람이 도착하면 onNotification 콜백을 호출하고, 연결이 끊기면 브라우저가 자동 재연결
+ * 재연결되면(서버의 connected 이벤트를 두 번째 이후로 받으면) 끊긴 동안 놓친 알람을 다시 조회하도록 onReconnect 호출
+ * @returns 구독 해제 함수
+ */
+export const subscribeNotificationStreamApi = (userId, onNotification, onReconnect) => {
+  const eventSource = new EventSource(`${API_BASE_URL}/stream?userId=${userId}`)
+  let connected = false
+
+  eventSource.addEventListener('connected', () => {
+    if (connected && onReconnect) {
+      onReconnect()
+    }
+    connected = true
+  })
+
+  eventSource.addEventListener('notification', (event) => {
+    onNotification(JSON.parse(event.data))
+  })
+
+  return () => eventSource.close()
+}
+
+/**
+ * 모두 읽음 처리 API
+ * upToId(화면에 표시된 가장 최신 알람 ID) 이하의 알람을 한 번에 읽음 처리
+ */
+export const markAllAsReadApi = async (userId, upToId) => {
+  const response = await fetch(`${API_BASE_URL}/read-all`, {
+    method: 'PUT',
+    headers: {
+      'Content-Type': 'application/json',
+    },
+    body: JSON.stringify({ userId, upToId })
+  })
+
+  if (!response.ok) {
+    throw new Error(`HTTP error! status: ${response.status}`)
+  }
+
+  const result = await response.json()
+
+  if (result.code !== 'SUCCESS') {
+    throw new Error(result.message || '모두 읽음 처리에 실패했습니다.')
+  }
+
+  return {
+    success: true,
+    message: result.message
+  }
+}
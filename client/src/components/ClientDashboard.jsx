@@ -1,9 +1,9 @@
 import { useState, useEffect } from 'react'
 import { useNavigate } from 'react-router-dom'
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
-import { checkPaymentStatusApi } from '../api/paymentApi'
+import { getDashboardApi } from '../api/dashboardApi'
 import { requestMandateApi, completeMandateApi } from '../api/mandateApi'
-import { getUnreadCountApi } from '../api/notificationApi'
+import { subscribeNotificationStreamApi } from '../api/notificationApi'
 import PaymentModal from './PaymentModal'
 import NotificationModal from './NotificationModal'
 
@@ -13,26 +13,21 @@ function ClientDashboard({ user, onLogout }) {
   const [showNotificationModal, setShowNotificationModal] = useState(false)
   const queryClient = useQueryClient()
 
-  // 결제 상태 조회
-  const { data: paymentStatusData, refetch: refetchPaymentStatus } = useQuery({
-    queryKey: ['paymentStatus', user.userId],
-    queryFn: () => checkPaymentStatusApi(user.userId),
-    refetchInterval: 60000 // 1분마다 자동 갱신
+  // 결제 상태, 수임 동의 상태, 읽지 않은 알람 개수, 최신 알람을 한 번에 조회
+  const { data: dashboardData, refetch: refetchDashboard } = useQuery({
+    queryKey: ['dashboard', user.userId],
+    queryFn: () => getDashboardApi(user.userId),
+    refetchInterval: 60000 // 1분마다 자동 갱신 (바뀐 것이 없으면 304)
   })
 
-  // 읽지 않은 알람 개수 조회
-  const { data: unreadCountData } = useQuery({
-    queryKey: ['unreadCount', user.userId],
-    queryFn: () => getUnreadCountApi(user.userId),
-    refetchInterval: 10000 // 10초마다 자동 갱신
-  })
-
-  // 수임 해제 요청 알림 조회
-  const { data: notificationsData } = useQuery({
-    queryKey: ['notifications', user.userId],
-    queryFn: () => getNotificationsApi(user.userId),
-    refetchInterval: 10000 // 10초마다 자동 갱신
-  })
+  // 새 알람 도착 시 대시보드 갱신 (폴링 대신 SSE 사용, 재연결 시 끊긴 동안의 알람 재조회)
+  useEffect(() => {
+    const refreshNotifications = () => {
+      queryClient.invalidateQueries({ queryKey: ['dashboard', user.userId] })
+      queryClient.invalidateQueries({ queryKey: ['notifications', user.userId] })
+    }
+    return subscribeNotificationStreamApi(user.userId, refreshNotifications, refreshNotifications)
+  }, [user.userId, queryClient])
 
   // 수임 동의 신청 Mutation
   const mandateMutation = useMutation({
@@ -64,10 +59,12 @@ function ClientDashboard({ user, onLogout }) {
     }
   })
 
-  const paymentStatus = paymentStatusData?.data
-  const unreadCount = unreadCountData?.data || 0
+  const dashboard = dashboardData?.data
+  const paymentStatus = dashboard?.payment
+  const unreadCount = dashboard?.unreadCount || 0
   const isPaymentValid = paymentStatus?.valid || false
-  const notifications = notificationsData?.data || []
+  const notifications = dashboard?.notifications || []
+  const mandateStatus = dashboard?.mandateStatus || user.mandateStatus
 
   // 수임 해제 요청 알림 확인
   const releaseRequestNotification = notifications.find(
@@ -75,7 +72,7 @@ function ClientDashboard({ user, onLogout }) {
   )
 
   const handlePaymentSuccess = () => {
-    refetchPaymentStatus()
+    refetchDashboard()
     // 사용자 정보 갱신
     const updatedUser = { ...user, paymentStatus: 'PAID' }
     localStorage.setItem('user', JSON.stringify(updatedUser))
@@ -115,7 +112,7 @@ function ClientDashboard({ user, onLogout }) {
       )
     }
 
-    if (user.mandateStatus === 'NONE' || !user.mandateStatus) {
+    if (mandateStatus === 'NONE' || !mandateStatus) {
       return (
         <button
           className="dashboard-action-button dashboard-action-button-mandate"
@@ -136,7 +133,7 @@ function ClientDashboard({ user, onLogout }) {
       )
     }
 
-    if (user.mandateStatus === 'REQUESTED') {
+    if (mandateStatus === 'REQUESTED') {
       return (
         <div className="dashboard-status-card dashboard-status-requested">
           <svg className="w-8 h-8 text-yellow-400" fill="none" stroke="currentColor" viewBox="0 0 24 24">
@@ -150,7 +147,7 @@ function ClientDashboard({ user, onLogout }) {
       )
     }
 
-    if (user.mandateStatus === 'SENT') {
+    if (mandateStatus === 'SENT') {
       return (
         <div className="dashboard-mandate-section">
           <div className="dashboard-status-card dashboard-status-sent">
@@ -207,7 +204,7 @@ function ClientDashboard({ user, onLogout }) {
       )
     }
 
-    if (user.mandateStatus === 'COMPLETED') {
+    if (mandateStatus === 'COMPLETED') {
       return (
         <div className="dashboard-status-card dashboard-status-completed">
           <svg className="w-8 h-8 text-green-400" fill="none" stroke="currentColor" viewBox="0 0 24 24">
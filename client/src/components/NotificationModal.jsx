@@ -1,21 +1,45 @@
 import { useEffect } from 'react'
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
-import { getNotificationsApi, markAsReadApi } from '../api/notificationApi'
+import { useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query'
+import { getNotificationsApi, markAsReadApi, markAllAsReadApi } from '../api/notificationApi'
+
+const PAGE_SIZE = 20
 
 function NotificationModal({ isOpen, onClose, user }) {
   const queryClient = useQueryClient()
 
-  const { data: notificationsData, isLoading } = useQuery({
-    queryKey: ['notifications', user.userId],
-    queryFn: () => getNotificationsApi(user.userId),
+  // 알람 목록 (최신순, 마지막으로 받은 알람 ID를 before로 넘겨 이전 알람 더 보기)
+  const {
+    data: notificationsData,
+    isLoading,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage
+  } = useInfiniteQuery({
+    queryKey: ['notifications', user.userId, 'pages'],
+    queryFn: ({ pageParam }) => getNotificationsApi(user.userId, pageParam, PAGE_SIZE),
+    initialPageParam: null,
+    getNextPageParam: (lastPage) => {
+      const items = lastPage.data || []
+      return items.length === PAGE_SIZE ? items[items.length - 1].notificationId : undefined
+    },
     enabled: isOpen
   })
 
   const markAsReadMutation = useMutation({
     mutationFn: (notificationId) => markAsReadApi(notificationId),
     onSuccess: () => {
-      queryClient.invalidateQueries(['notifications', user.userId])
-      queryClient.invalidateQueries(['unreadCount', user.userId])
+      queryClient.invalidateQueries({ queryKey: ['notifications', user.userId] })
+      queryClient.invalidateQueries({ queryKey: ['unreadCount', user.userId] })
+      queryClient.invalidateQueries({ queryKey: ['dashboard', user.userId] })
+    }
+  })
+
+  const markAllAsReadMutation = useMutation({
+    mutationFn: (upToId) => markAllAsReadApi(user.userId, upToId),
+    onSuccess: () => {
+      queryClient.invalidateQueries({ queryKey: ['notifications', user.userId] })
+      queryClient.invalidateQueries({ queryKey: ['unreadCount', user.userId] })
+      queryClient.invalidateQueries({ queryKey: ['dashboard', user.userId] })
     }
   })
 
@@ -23,7 +47,13 @@ function NotificationModal({ isOpen, onClose, user }) {
     markAsReadMutation.mutate(notificationId)
   }
 
-  const notifications = notificationsData?.data || []
+  const notifications = notificationsData?.pages.flatMap(page => page.data || []) || []
+  const hasUnread = notifications.some(notification => !notification.isRead)
+
+  // 목록은 최신순이므로 첫 번째 알람 ID까지 모두 읽음 처리
+  const handleMarkAllAsRead = () => {
+    markAllAsReadMutation.mutate(notifications[0].notificationId)
+  }
 
   if (!isOpen) return null
 
@@ -32,6 +62,15 @@ function NotificationModal({ isOpen, onClose, user }) {
       <div className="notification-modal-content" onClick={(e) => e.stopPropagation()}>
         <div className="notification-modal-header">
           <h2 className="notification-modal-title">알람</h2>
+          {hasUnread && (
+            <button
+              className="notification-read-button"
+              onClick={handleMarkAllAsRead}
+              disabled={markAllAsReadMutation.isPending}
+            >
+              모두 읽음
+            </button>
+          )}
           <button className="notification-modal-close" onClick={onClose}>
             <svg className="w-6 h-6" fill="none" stroke="currentColor" viewBox="0 0 24 24">
               <path strokeLinecap="round" strokeLinejoin="round" strokeWidth={2} d="M6 18L18 6M6 6l12 12" />
@@ -100,6 +139,15 @@ function NotificationModal({ isOpen, onClose, user }) {
                   )}
                 </div>
               ))}
+              {hasNextPage && (
+                <button
+                  className="notification-read-button"
+                  onClick={() => fetchNextPage()}
+                  disabled={isFetchingNextPage}
+                >
+                  {isFetchingNextPage ? '불러오는 중...' : '더 보기'}
+                </button>
+              )}
             </div>
           )}
         </div>
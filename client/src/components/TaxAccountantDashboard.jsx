@@ -1,34 +1,145 @@
-import { useState } from 'react'
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
-import { sendMandateRequestApi, getMandateListApi } from '../api/mandateApi'
-import { getNotificationsApi, getUnreadCountApi } from '../api/notificationApi'
+import { useState, useEffect } from 'react'
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query'
+import { sendMandateRequestApi, getMandateListApi, getMandateListChangesApi, claimMandateRequestsApi } from '../api/mandateApi'
+import { getNotificationsApi, getUnreadCountApi, subscribeNotificationStreamApi } from '../api/notificationApi'
 import NotificationModal from './NotificationModal'
 
+const LIST_STATUSES = ['REQUESTED', 'SENT', 'COMPLETED']
+
+// 변경분을 캐시된 목록 페이지에 반영 (필터 밖으로 나가거나 새로 들어오는 회원이 있으면 null → 전체 다시 조회)
+const mergeMandateChanges = (data, items, statusFilter) => {
+  const matches = (item) => statusFilter === 'ALL'
+    ? LIST_STATUSES.includes(item.mandateStatus)
+    : item.mandateStatus === statusFilter
+  const cached = new Map()
+  data.pages.forEach(page => (page.data?.items || []).forEach(item => cached.set(item.userId, item)))
+
+  const changed = new Map()
+  for (const item of items) {
+    const current = cached.get(item.userId)
+    if (current ? !matches(item) : matches(item)) {
+      return null
+    }
+    if (current && item.changeVersion > current.changeVersion) {
+      changed.set(item.userId, item)
+    }
+  }
+  if (changed.size === 0) {
+    return data
+  }
+
+  // 필터 안에서 상태만 바뀐 경우 (ALL) 상태별 카운트도 옮김
+  const firstData = data.pages[0]?.data
+  const counts = firstData?.counts ? { ...firstData.counts } : null
+  if (counts) {
+    changed.forEach((item, userId) => {
+      const previous = cached.get(userId).mandateStatus
+      if (previous !== item.mandateStatus) {
+        counts[previous] = (counts[previous] || 0) - 1
+        counts[item.mandateStatus] = (counts[item.mandateStatus] || 0) + 1
+      }
+    })
+  }
+
+  return {
+    ...data,
+    pages: data.pages.map((page, index) => page.data ? {
+      ...page,
+      data: {
+        ...page.data,
+        items: page.data.items.map(item => changed.get(item.userId) || item),
+        ...(index === 0 && counts ? { counts } : {})
+      }
+    } : page)
+  }
+}
+
 function TaxAccountantDashboard({ user, onLogout }) {
   const [showNotificationModal, setShowNotificationModal] = useState(false)
   const [selectedClientId, setSelectedClientId] = useState(null)
-  const [statusFilter, setStatusFilter] = useState('ALL') // ALL, REQUESTED, SENT, COMPLETED
+  const [statusFilter, setStatusFilter] = useState('ALL') // ALL, MINE(내 배정), REQUESTED, SENT, COMPLETED
+  const [changesSince, setChangesSince] = useState(-1)
   const queryClient = useQueryClient()
 
   // 알람 목록 조회
   const { data: notificationsData } = useQuery({
     queryKey: ['notifications', user.userId],
-    queryFn: () => getNotificationsApi(user.userId),
-    refetchInterval: 10000 // 10초마다 자동 갱신
+    queryFn: () => getNotificationsApi(user.userId)
   })
 
   // 읽지 않은 알람 개수 조회
   const { data: unreadCountData } = useQuery({
     queryKey: ['unreadCount', user.userId],
-    queryFn: () => getUnreadCountApi(user.userId),
-    refetchInterval: 10000 // 10초마다 자동 갱신
+    queryFn: () => getUnreadCountApi(user.userId)
   })
 
-  // 수임 동의 내역 조회
-  const { data: mandateListData, isLoading: isMandateListLoading } = useQuery({
-    queryKey: ['mandateList'],
-    queryFn: () => getMandateListApi(),
-    refetchInterval: 10000 // 10초마다 자동 갱신
+  // 새 알람 도착 시 알람 목록/개수 갱신 (폴링 대신 SSE 사용, 재연결 시 끊긴 동안의 알람 재조회)
+  useEffect(() => {
+    const refreshNotifications = () => {
+      queryClient.invalidateQueries({ queryKey: ['notifications', user.userId] })
+      queryClient.invalidateQueries({ queryKey: ['unreadCount', user.userId] })
+    }
+    return subscribeNotificationStreamApi(user.userId, (notification) => {
+      refreshNotifications()
+      if (notification.type === 'CLIENT_TO_TAX') {
+        // 목록 전체 대신 변경분만 바로 확인 (아직 공개 순번에 포함되지 않았으면 다음 주기에 반영)
+        queryClient.invalidateQueries({ queryKey: ['mandateListChanges'] })
+      }
+    }, refreshNotifications)
+  }, [user.userId, queryClient])
+
+  // 수임 동의 내역 조회 (상태 필터는 서버에서 적용, 페이지 단위로 더 보기)
+  const {
+    data: mandateListData,
+    isLoading: isMandateListLoading,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage
+  } = useInfiniteQuery({
+    queryKey: ['mandateList', statusFilter],
+    queryFn: ({ pageParam }) => getMandateListApi(statusFilter, pageParam),
+    initialPageParam: null,
+    getNextPageParam: (lastPage) => lastPage.data?.nextCursor ?? undefined,
+    enabled: statusFilter !== 'MINE'
+  })
+
+  // 내 배정 목록 (다른 세무사와 겹치지 않게 배정받은 신청 회원, 조회할 때마다 배정 연장)
+  const { data: claimData, isLoading: isClaimLoading } = useQuery({
+    queryKey: ['mandateClaims', user.userId],
+    queryFn: () => claimMandateRequestsApi(user.userId),
+    enabled: statusFilter === 'MINE',
+    refetchInterval: 5 * 60 * 1000 // 5분마다 배정 연장
+  })
+
+  // 10초마다 변경분만 확인 (변경이 없으면 서버가 DB 조회 없이 304 응답)
+  // 변경된 회원은 캐시된 페이지에서 바로 교체하고, 필터에 들어오거나 빠지는 회원이 있을 때만 목록 다시 조회
+  const since = Math.max(mandateListData?.pages[0]?.data?.version ?? -1, changesSince)
+  useQuery({
+    queryKey: ['mandateListChanges', since],
+    queryFn: async () => {
+      const changes = await getMandateListChangesApi(since)
+      if (changes) {
+        setChangesSince(changes.version)
+        if (changes.items.length > 0) {
+          const listKey = ['mandateList', statusFilter]
+          const cachedList = queryClient.getQueryData(listKey)
+          const merged = cachedList && mergeMandateChanges(cachedList, changes.items, statusFilter)
+          if (merged) {
+            queryClient.setQueryData(listKey, merged)
+          } else {
+            queryClient.invalidateQueries({ queryKey: listKey })
+          }
+          // 보이지 않는 다른 필터 목록은 다음에 열 때 다시 조회
+          queryClient.invalidateQueries({
+            queryKey: ['mandateList'],
+            predicate: (query) => query.queryKey[1] !== statusFilter
+          })
+        }
+      }
+      return changes
+    },
+    enabled: since >= 0,
+    refetchInterval: 10000
   })
 
   // 수임 동의 요청 전송 Mutation
@@ -36,8 +147,9 @@ function TaxAccountantDashboard({ user, onLogout }) {
     mutationFn: (clientId) => sendMandateRequestApi(user.userId, clientId),
     onSuccess: () => {
       alert('수임 동의 요청이 회원에게 전송되었습니다.')
-      queryClient.invalidateQueries(['mandateList'])
-      queryClient.invalidateQueries(['notifications', user.userId])
+      queryClient.invalidateQueries({ queryKey: ['mandateList'] })
+      queryClient.invalidateQueries({ queryKey: ['notifications', user.userId] })
+      queryClient.invalidateQueries({ queryKey: ['mandateClaims', user.userId] })
       setSelectedClientId(null)
     },
     onError: (error) => {
@@ -46,19 +158,18 @@ function TaxAccountantDashboard({ user, onLogout }) {
   })
 
   const unreadCount = unreadCountData?.data || 0
-  const mandateList = mandateListData?.data || []
-
-  // 상태별 필터링
-  const filteredMandateList = statusFilter === 'ALL' 
-    ? mandateList 
-    : mandateList.filter(client => client.mandateStatus === statusFilter)
+  const filteredMandateList = statusFilter === 'MINE'
+    ? claimData?.data?.items || []
+    : mandateListData?.pages.flatMap(page => page.data?.items || []) || []
 
-  // 상태별 카운트
+  // 상태별 카운트 (첫 페이지 응답에 포함)
+  const counts = mandateListData?.pages[0]?.data?.counts || {}
   const statusCounts = {
-    ALL: mandateList.length,
-    REQUESTED: mandateList.filter(c => c.mandateStatus === 'REQUESTED').length,
-    SENT: mandateList.filter(c => c.mandateStatus === 'SENT').length,
-    COMPLETED: mandateList.filter(c => c.mandateStatus === 'COMPLETED').length
+    ALL: (counts.REQUESTED || 0) + (counts.SENT || 0) + (counts.COMPLETED || 0),
+    REQUESTED: counts.REQUESTED || 0,
+    SENT: counts.SENT || 0,
+    COMPLETED: counts.COMPLETED || 0,
+    MINE: claimData?.data?.items?.length || 0
   }
 
   const handleOpenHometax = () => {
@@ -145,6 +256,12 @@ function TaxAccountantDashboard({ user, onLogout }) {
               >
                 전체 ({statusCounts.ALL})
               </button>
+              <button
+                className={`tax-dashboard-filter-tab ${statusFilter === 'MINE' ? 'active' : ''}`}
+                onClick={() => setStatusFilter('MINE')}
+              >
+                내 배정 ({statusCounts.MINE})
+              </button>
               <button
                 className={`tax-dashboard-filter-tab ${statusFilter === 'REQUESTED' ? 'active' : ''}`}
                 onClick={() => setStatusFilter('REQUESTED')}
@@ -165,7 +282,7 @@ function TaxAccountantDashboard({ user, onLogout }) {
               </button>
             </div>
 
-            {isMandateListLoading ? (
+            {(statusFilter === 'MINE' ? isClaimLoading : isMandateListLoading) ? (
               <div className="tax-dashboard-loading">
                 <svg className="animate-spin h-8 w-8 text-purple-400" xmlns="http://www.w3.org/2000/svg" fill="none" viewBox="0 0 24 24">
                   <circle className="opacity-25" cx="12" cy="12" r="10" stroke="currentColor" strokeWidth="4"></circle>
@@ -179,7 +296,7 @@ function TaxAccountantDashboard({ user, onLogout }) {
                   <path strokeLinecap="round" strokeLinejoin="round" strokeWidth={2} d="M9 12h6m-6 4h6m2 5H7a2 2 0 01-2-2V5a2 2 0 012-2h5.586a1 1 0 01.707.293l5.414 5.414a1 1 0 01.293.707V19a2 2 0 01-2 2z" />
                 </svg>
                 <p className="text-gray-400">
-                  {statusFilter === 'ALL' ? '수임 동의 내역이 없습니다' : `${statusFilter === 'REQUESTED' ? '신청된' : statusFilter === 'SENT' ? '요청 전송된' : '완료된'} 수임 동의가 없습니다`}
+                  {statusFilter === 'ALL' ? '수임 동의 내역이 없습니다' : statusFilter === 'MINE' ? '배정된 수임 동의 신청이 없습니다' : `${statusFilter === 'REQUESTED' ? '신청된' : statusFilter === 'SENT' ? '요청 전송된' : '완료된'} 수임 동의가 없습니다`}
                 </p>
               </div>
             ) : (
@@ -258,6 +375,15 @@ function TaxAccountantDashboard({ user, onLogout }) {
                     )}
                   </div>
                 ))}
+                {statusFilter !== 'MINE' && hasNextPage && (
+                  <button
+                    className="tax-dashboard-filter-tab"
+                    onClick={() => fetchNextPage()}
+                    disabled={isFetchingNextPage}
+                  >
+                    {isFetchingNextPage ? '불러오는 중...' : '더 보기'}
+                  </button>
+                )}
               </div>
             )}
           </div>
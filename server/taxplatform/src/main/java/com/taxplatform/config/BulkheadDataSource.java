@@ -0,0 +1,117 @@
+package com.taxplatform.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시에 빌려 갈 수 있는 DB 연결 수를 제한하는 DataSource (bulkhead)
+ * 요청 스레드 수에 상한이 없는 실행 모드(virtual thread)에서 커넥션 풀 앞에 대기자가 몰리지 않도록
+ * 세마포어 허가를 얻은 스레드만 풀에서 연결을 가져가고, 연결을 닫으면 허가를 반납한다.
+ * acquire-timeout-millis 안에 허가를 얻지 못하면 풀과 같은 SQLTransientConnectionException으로 즉시 실패한다.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final int maxConcurrent;
+
+    public BulkheadDataSource(DataSource targetDataSource, int maxConcurrent, long acquireTimeoutMillis) {
+        super(targetDataSource);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 최대 동시 연결 수
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * 지금 빌려 간 연결 수
+     */
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * 허가를 기다리는 스레드 수 (추정값)
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "DB 연결 대기 시간을 초과했습니다. (maxConcurrent=" + maxConcurrent
+                                + ", timeoutMillis=" + acquireTimeoutMillis + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 연결 대기가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * close가 처음 호출될 때 한 번만 허가를 반납하는 연결 프록시
+     */
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    if ("isClosed".equals(method.getName()) && released.get()) {
+                        return true;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
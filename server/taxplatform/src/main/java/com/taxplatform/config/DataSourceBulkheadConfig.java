@@ -0,0 +1,55 @@
+package com.taxplatform.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 처리 실행 모드 및 DB 연결 bulkhead 설정
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행하면 Spring Boot가 Tomcat 요청 처리와
+ * @Scheduled 작업을 virtual thread로 실행한다. 이때 요청 스레드 수에 상한이 없어지므로
+ * datasource.bulkhead.enabled의 기본값을 켜서 DataSource를 BulkheadDataSource로 감싼다.
+ * (플랫폼 스레드 모드에서는 Tomcat 스레드 풀이 상한 역할을 하므로 기본값은 꺼짐)
+ */
+@Configuration
+public class DataSourceBulkheadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceBulkheadConfig.class);
+
+    @Bean
+    public static BeanPostProcessor dataSourceBulkheadPostProcessor(Environment environment) {
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        boolean enabled = environment.getProperty("datasource.bulkhead.enabled", Boolean.class, virtualThreads);
+        log.info(">>> 요청 처리 모드: virtualThreads={}, dbBulkhead={}", virtualThreads, enabled);
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false) && !virtualThreads) {
+            log.warn(">>> spring.threads.virtual.enabled=true 이지만 Java 21 미만이라 플랫폼 스레드로 실행합니다.");
+        }
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+
+                // 기본값: 커넥션 풀 크기 (허가를 얻은 스레드는 풀에서 거의 기다리지 않음)
+                int maxConcurrent = environment.getProperty("datasource.bulkhead.max-concurrent", Integer.class, 0);
+                if (maxConcurrent <= 0) {
+                    maxConcurrent = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                }
+                long acquireTimeoutMillis = environment.getProperty(
+                        "datasource.bulkhead.acquire-timeout-millis", Long.class, 3000L);
+
+                log.info(">>> DB 연결 bulkhead 적용: bean={}, maxConcurrent={}, acquireTimeoutMillis={}",
+                        beanName, maxConcurrent, acquireTimeoutMillis);
+                return new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeoutMillis);
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.taxplatform.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 설정
+ * 알람 스트림 heartbeat 등 주기 작업(@Scheduled)을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,15 +1,24 @@
 package com.taxplatform.controller;
 
 import com.taxplatform.domain.User;
+import com.taxplatform.domain.UserAuthView;
+import com.taxplatform.domain.UserProfileView;
 import com.taxplatform.dto.ApiResponse;
+import com.taxplatform.service.BulkValidationService;
+import com.taxplatform.service.BusinessLookupService;
 import com.taxplatform.service.UserService;
+import com.taxplatform.service.VerificationCodeService;
 import com.taxplatform.util.ValidationUtil;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,9 +34,18 @@ public class AuthController {
     private static final Logger log = LoggerFactory.getLogger(AuthController.class);
 
     private final UserService userService;
+    private final VerificationCodeService verificationCodeService;
+    private final BulkValidationService bulkValidationService;
+    private final BusinessLookupService businessLookupService;
 
-    public AuthController(UserService userService) {
+    public AuthController(UserService userService,
+                          VerificationCodeService verificationCodeService,
+                          BulkValidationService bulkValidationService,
+                          BusinessLookupService businessLookupService) {
         this.userService = userService;
+        this.verificationCodeService = verificationCodeService;
+        this.bulkValidationService = bulkValidationService;
+        this.businessLookupService = businessLookupService;
     }
 
     @PostConstruct
@@ -95,7 +113,7 @@ public class AuthController {
         String password = request.get("password");
         
         // 비즈니스 로직은 Service에 위임
-        User user = userService.login(usernameOrEmail, password);
+        UserAuthView user = userService.login(usernameOrEmail, password);
         
         // 응답 데이터 구성
         Map<String, Object> userData = new HashMap<>();
@@ -120,7 +138,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> verifyBusinessNumber(@RequestBody Map<String, String> request) {
         String businessNumber = request.get("businessNumber");
         
-        Map<String, Object> result = ValidationUtil.verifyBusinessNumber(businessNumber);
+        Map<String, Object> result = businessLookupService.verifyBusinessNumber(businessNumber);
         
         if ((Boolean) result.get("valid")) {
             log.info(">>> 사업자등록번호 검증 성공: {}", businessNumber);
@@ -151,6 +169,39 @@ public class AuthController {
         }
     }
     
+    /**
+     * 사업자등록번호/법인등록번호 대량 검증 API
+     * 행별 검증 결과를 NDJSON으로 스트리밍한다.
+     *
+     * 입력 형식 (UTF-8, 한 줄에 하나, 빈 줄 무시, BOM 허용):
+     *   헤더 없음: "번호" (10자리면 사업자, 그 외 법인) 또는 "BUSINESS,번호" / "CORPORATE,번호"
+     *   헤더 있음: 첫 줄이 number, type,number, number,type 중 하나이며 이후 행은 헤더의 열 순서를 따른다.
+     *   번호만 있는 줄은 헤더와 관계없이 허용한다.
+     * 그 외 헤더는 400 (INVALID_BULK_FORMAT), 열 개수나 종류가 맞지 않는 행은 valid=false로 응답한다.
+     * @param request 번호 목록 (text/plain 또는 text/csv)
+     * @return 행별 검증 결과 (application/x-ndjson)
+     */
+    @PostMapping(value = "/verify-numbers", consumes = {MediaType.TEXT_PLAIN_VALUE, "text/csv"})
+    public ResponseEntity<?> verifyNumbers(HttpServletRequest request) throws IOException {
+        log.info(">>> 대량 번호 검증 요청: contentLength={}", request.getContentLengthLong());
+
+        // 응답을 쓰기 전에 헤더를 확인해 형식 오류는 400으로 응답
+        BulkValidationService.BulkInput input;
+        try {
+            input = bulkValidationService.open(request.getInputStream());
+        } catch (IllegalArgumentException e) {
+            log.warn(">>> 대량 번호 검증 형식 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponse.error("INVALID_BULK_FORMAT", e.getMessage()));
+        }
+
+        StreamingResponseBody stream = out -> bulkValidationService.validate(input, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+    
     /**
      * 휴대폰 인증번호 전송 API
      * @param request 휴대폰 번호
@@ -160,7 +211,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> sendVerificationCode(@RequestBody Map<String, String> request) {
         String phoneNumber = request.get("phoneNumber");
         
-        Map<String, Object> result = ValidationUtil.sendVerificationCode(phoneNumber);
+        Map<String, Object> result = verificationCodeService.sendVerificationCode(phoneNumber);
         
         if ((Boolean) result.get("success")) {
             log.info(">>> 휴대폰 인증번호 전송 성공: {}", phoneNumber);
@@ -181,7 +232,7 @@ public class AuthController {
         String phoneNumber = request.get("phoneNumber");
         String code = request.get("code");
         
-        Map<String, Object> result = ValidationUtil.verifyPhoneCode(phoneNumber, code);
+        Map<String, Object> result = verificationCodeService.verifyPhoneCode(phoneNumber, code);
         
         if ((Boolean) result.get("valid")) {
             log.info(">>> 휴대폰 인증 성공: {}", phoneNumber);
@@ -200,7 +251,7 @@ public class AuthController {
     @GetMapping("/profile/{userId}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getProfile(@PathVariable Long userId) {
         // 비즈니스 로직은 Service에 위임
-        User user = userService.getProfile(userId);
+        UserProfileView user = userService.getProfile(userId);
 
         // 응답 데이터 구성
         Map<String, Object> userData = new HashMap<>();
@@ -233,7 +284,7 @@ public class AuthController {
             @RequestBody Map<String, String> request) {
 
         // 비즈니스 로직은 Service에 위임
-        User updatedUser = userService.updateProfile(userId, request);
+        UserProfileView updatedUser = userService.updateProfile(userId, request);
 
         // 응답 데이터 구성
         Map<String, Object> userData = new HashMap<>();
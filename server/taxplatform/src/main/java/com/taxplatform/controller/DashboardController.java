@@ -0,0 +1,69 @@
+package com.taxplatform.controller;
+
+import com.taxplatform.dto.ApiResponse;
+import com.taxplatform.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 회원 대시보드 API 컨트롤러
+ */
+@RestController
+@CrossOrigin(origins = "http://localhost:5173")
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    /**
+     * 대시보드 스냅샷 조회 (결제 상태, 수임 동의 상태, 읽지 않은 알람 개수, 최신 알람)
+     * If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환
+     * @param userId 사용자 ID
+     * @param ifNoneMatch 이전 응답의 ETag
+     * @return 대시보드 정보
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<ApiResponse<?>> getDashboard(@PathVariable Long userId,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            DashboardService.DashboardView dashboard = dashboardService.getDashboard(userId);
+            String etag = "\"" + dashboard.getEtag() + "\"";
+            if (matchesEtag(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(ApiResponse.success("대시보드 조회 성공", dashboard));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error("DASHBOARD_FETCH_FAILED", e.getMessage()));
+        }
+    }
+    
+    /**
+     * If-None-Match 값 중 현재 ETag와 같은 것이 있는지 확인 (약한 비교)
+     */
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
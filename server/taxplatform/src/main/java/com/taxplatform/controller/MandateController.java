@@ -3,8 +3,13 @@ package com.taxplatform.controller;
 import com.taxplatform.dto.ApiResponse;
 import com.taxplatform.service.MandateService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * 수임 동의 관련 API 컨트롤러
  */
@@ -61,6 +66,37 @@ public class MandateController {
         }
     }
     
+    /**
+     * 처리할 수임 동의 신청 배정 (세무사)
+     * 이미 배정받은 회원은 배정이 연장되고, limit까지 모자란 만큼 새로 배정된다.
+     * @param request taxAccountantId와 limit을 포함한 요청 객체
+     * @return 배정받은 회원 목록
+     */
+    @PostMapping("/claim")
+    public ApiResponse<?> claimMandateRequests(@RequestBody ClaimRequest request) {
+        try {
+            return ApiResponse.success("수임 동의 신청 배정 성공",
+                    mandateService.claimMandateRequests(request.getTaxAccountantId(), request.getLimit()));
+        } catch (Exception e) {
+            return ApiResponse.error("MANDATE_CLAIM_FAILED", e.getMessage());
+        }
+    }
+    
+    /**
+     * 배정받은 수임 동의 신청 반납 (세무사)
+     * @param request taxAccountantId와 clientId를 포함한 요청 객체
+     * @return 처리 결과
+     */
+    @PostMapping("/claim/release")
+    public ApiResponse<String> releaseMandateClaim(@RequestBody SendMandateRequest request) {
+        try {
+            String message = mandateService.releaseMandateClaim(request.getTaxAccountantId(), request.getClientId());
+            return ApiResponse.success(message, message);
+        } catch (Exception e) {
+            return ApiResponse.error("MANDATE_CLAIM_RELEASE_FAILED", e.getMessage());
+        }
+    }
+    
     /**
      * 수임 동의 수락 완료 (회원)
      * @param request userId를 포함한 요청 객체
@@ -77,18 +113,49 @@ public class MandateController {
     }
     
     /**
-     * 모든 수임 동의 내역 조회 (세무사용)
-     * @return 수임 동의 내역 리스트
+     * 수임 동의 내역 조회 (세무사용)
+     * @param status 상태 필터 (REQUESTED, SENT, COMPLETED, 생략 시 전체)
+     * @param from 이 날짜 이후 변경된 내역만 (yyyy-MM-dd, 생략 가능)
+     * @param to 이 날짜까지 변경된 내역만 (yyyy-MM-dd, 생략 가능)
+     * @param cursor 다음 페이지 커서 (이전 응답의 nextCursor, 생략 시 첫 페이지)
+     * @param limit 페이지 크기 (생략 시 20, 최대 100)
+     * @return 수임 동의 내역 페이지
      */
     @GetMapping("/list")
-    public ApiResponse<?> getMandateList() {
+    public ApiResponse<?> getMandateList(@RequestParam(required = false) String status,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer limit) {
         try {
-            return ApiResponse.success("수임 동의 내역 조회 성공", mandateService.getAllMandateRequests());
+            return ApiResponse.success("수임 동의 내역 조회 성공",
+                    mandateService.getMandateList(status, from, to, cursor, limit));
         } catch (Exception e) {
             return ApiResponse.error("MANDATE_LIST_FAILED", e.getMessage());
         }
     }
     
+    /**
+     * 수임 동의 내역 변경분 조회 (세무사용)
+     * 변경이 없으면 DB 조회 없이 304 Not Modified로 응답한다.
+     * @param since 마지막으로 받은 변경 순번 (목록 첫 페이지 또는 이전 응답의 version)
+     * @param limit 최대 조회 개수 (생략 시 100, 최대 100)
+     * @return 변경분 (items, version, hasMore)
+     */
+    @GetMapping("/list/changes")
+    public ResponseEntity<ApiResponse<?>> getMandateListChanges(@RequestParam long since,
+                                                               @RequestParam(required = false) Integer limit) {
+        try {
+            MandateService.MandateChanges changes = mandateService.getMandateChanges(since, limit);
+            if (changes == null) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return ResponseEntity.ok(ApiResponse.success("수임 동의 변경분 조회 성공", changes));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error("MANDATE_CHANGES_FAILED", e.getMessage()));
+        }
+    }
+    
     /**
      * 수임 동의 신청 요청 DTO
      */
@@ -151,5 +218,28 @@ public class MandateController {
             this.clientId = clientId;
         }
     }
-}
 
+    /**
+     * 수임 동의 신청 배정 요청 DTO
+     */
+    public static class ClaimRequest {
+        private Long taxAccountantId;
+        private Integer limit;
+
+        public Long getTaxAccountantId() {
+            return taxAccountantId;
+        }
+
+        public void setTaxAccountantId(Long taxAccountantId) {
+            this.taxAccountantId = taxAccountantId;
+        }
+
+        public Integer getLimit() {
+            return limit;
+        }
+
+        public void setLimit(Integer limit) {
+            this.limit = limit;
+        }
+    }
+}
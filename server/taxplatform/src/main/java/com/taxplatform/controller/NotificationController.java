@@ -4,7 +4,9 @@ import com.taxplatform.domain.Notification;
 import com.taxplatform.dto.ApiResponse;
 import com.taxplatform.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,20 +22,35 @@ public class NotificationController {
     private NotificationService notificationService;
     
     /**
-     * 알람 목록 조회
+     * 알람 목록 조회 (커서 기반 페이지네이션)
      * @param userId 사용자 ID
-     * @return 알람 목록
+     * @param before 이 ID보다 오래된 알람만 조회 (다음 페이지 커서, 생략 시 최신부터)
+     * @param limit 페이지 크기 (생략 시 20, 최대 100)
+     * @return 알람 목록 (최신순)
      */
     @GetMapping
-    public ApiResponse<List<Notification>> getNotifications(@RequestParam Long userId) {
+    public ApiResponse<List<Notification>> getNotifications(@RequestParam Long userId,
+                                                            @RequestParam(required = false) Long before,
+                                                            @RequestParam(required = false) Integer limit) {
         try {
-            List<Notification> notifications = notificationService.getNotifications(userId);
+            List<Notification> notifications = notificationService.getNotifications(userId, before, limit);
             return ApiResponse.success("알람 목록 조회 성공", notifications);
         } catch (Exception e) {
             return ApiResponse.error("NOTIFICATION_FETCH_FAILED", e.getMessage());
         }
     }
     
+    /**
+     * 알람 실시간 스트림 구독 (SSE)
+     * 새 알람이 생성되면 "notification" 이벤트로 전송됨
+     * @param userId 사용자 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestParam Long userId) {
+        return notificationService.subscribe(userId);
+    }
+    
     /**
      * 알람 읽음 처리
      * @param id 알람 ID
@@ -49,6 +66,36 @@ public class NotificationController {
         }
     }
     
+    /**
+     * 알람 일괄 읽음 처리
+     * @param request userId와 notificationIds를 포함한 요청 객체
+     * @return 처리 결과
+     */
+    @PutMapping("/read")
+    public ApiResponse<String> markAsReadBatch(@RequestBody MarkAsReadRequest request) {
+        try {
+            String message = notificationService.markAsRead(request.getUserId(), request.getNotificationIds());
+            return ApiResponse.success(message, message);
+        } catch (Exception e) {
+            return ApiResponse.error("NOTIFICATION_UPDATE_FAILED", e.getMessage());
+        }
+    }
+    
+    /**
+     * 지정한 알람까지 모두 읽음 처리
+     * @param request userId와 upToId를 포함한 요청 객체
+     * @return 처리 결과
+     */
+    @PutMapping("/read-all")
+    public ApiResponse<String> markAllAsRead(@RequestBody MarkAllAsReadRequest request) {
+        try {
+            String message = notificationService.markAllAsRead(request.getUserId(), request.getUpToId());
+            return ApiResponse.success(message, message);
+        } catch (Exception e) {
+            return ApiResponse.error("NOTIFICATION_UPDATE_FAILED", e.getMessage());
+        }
+    }
+    
     /**
      * 읽지 않은 알람 개수 조회
      * @param userId 사용자 ID
@@ -63,5 +110,52 @@ public class NotificationController {
             return ApiResponse.error("UNREAD_COUNT_FETCH_FAILED", e.getMessage());
         }
     }
+    
+    /**
+     * 알람 일괄 읽음 처리 요청 DTO
+     */
+    public static class MarkAsReadRequest {
+        private Long userId;
+        private List<Long> notificationIds;
+        
+        public Long getUserId() {
+            return userId;
+        }
+        
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+        
+        public List<Long> getNotificationIds() {
+            return notificationIds;
+        }
+        
+        public void setNotificationIds(List<Long> notificationIds) {
+            this.notificationIds = notificationIds;
+        }
+    }
+    
+    /**
+     * 모두 읽음 처리 요청 DTO
+     */
+    public static class MarkAllAsReadRequest {
+        private Long userId;
+        private Long upToId;
+        
+        public Long getUserId() {
+            return userId;
+        }
+        
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+        
+        public Long getUpToId() {
+            return upToId;
+        }
+        
+        public void setUpToId(Long upToId) {
+            this.upToId = upToId;
+        }
+    }
 }
-
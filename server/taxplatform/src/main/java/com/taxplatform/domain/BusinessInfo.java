@@ -0,0 +1,75 @@
+package com.taxplatform.domain;
+
+/**
+ * 외부(국세청) 사업자 조회 결과
+ */
+public class BusinessInfo {
+    private String businessNumber;  // 사업자등록번호 (하이픈 제거)
+    private String businessName;    // 상호 (조회 API에 따라 없을 수 있음)
+    private String businessType;    // 과세유형 (예: 개인사업자, 부가가치세 일반과세자)
+    private String businessStatus;  // 사업자 상태 (예: 계속사업자, 휴업자, 폐업자)
+    private boolean closed;         // 폐업 여부
+
+    public BusinessInfo() {
+    }
+
+    public BusinessInfo(String businessNumber, String businessName, String businessType,
+                        String businessStatus, boolean closed) {
+        this.businessNumber = businessNumber;
+        this.businessName = businessName;
+        this.businessType = businessType;
+        this.businessStatus = businessStatus;
+        this.closed = closed;
+    }
+
+    public String getBusinessNumber() {
+        return businessNumber;
+    }
+
+    public void setBusinessNumber(String businessNumber) {
+        this.businessNumber = businessNumber;
+    }
+
+    public String getBusinessName() {
+        return businessName;
+    }
+
+    public void setBusinessName(String businessName) {
+        this.businessName = businessName;
+    }
+
+    public String getBusinessType() {
+        return businessType;
+    }
+
+    public void setBusinessType(String businessType) {
+        this.businessType = businessType;
+    }
+
+    public String getBusinessStatus() {
+        return businessStatus;
+    }
+
+    public void setBusinessStatus(String businessStatus) {
+        this.businessStatus = businessStatus;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void setClosed(boolean closed) {
+        this.closed = closed;
+    }
+
+    @Override
+    public String toString() {
+        return "BusinessInfo{" +
+                "businessNumber='" + businessNumber + '\'' +
+                ", businessName='" + businessName + '\'' +
+                ", businessType='" + businessType + '\'' +
+                ", businessStatus='" + businessStatus + '\'' +
+                ", closed=" + closed +
+                '}';
+    }
+}
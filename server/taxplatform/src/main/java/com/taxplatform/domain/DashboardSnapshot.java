@@ -0,0 +1,66 @@
+package com.taxplatform.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 대시보드 스냅샷 조회 결과
+ * 결제/수임 동의 상태, 읽지 않은 알람 개수, 최신 알람 목록을 한 번의 쿼리로 조회한다.
+ */
+public class DashboardSnapshot {
+    private Long userId;                    // 사용자 ID
+    private String paymentStatus;           // 결제상태
+    private LocalDateTime lastPaymentDate;  // 마지막 결제일
+    private String mandateStatus;           // 수임동의상태
+    private int unreadCount;                // 읽지 않은 알람 개수
+    private List<Notification> notifications = new ArrayList<>(); // 최신 알람 (최신순)
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public LocalDateTime getLastPaymentDate() {
+        return lastPaymentDate;
+    }
+
+    public void setLastPaymentDate(LocalDateTime lastPaymentDate) {
+        this.lastPaymentDate = lastPaymentDate;
+    }
+
+    public String getMandateStatus() {
+        return mandateStatus;
+    }
+
+    public void setMandateStatus(String mandateStatus) {
+        this.mandateStatus = mandateStatus;
+    }
+
+    public int getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(int unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public List<Notification> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<Notification> notifications) {
+        this.notifications = notifications;
+    }
+}
@@ -0,0 +1,120 @@
+package com.taxplatform.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * mandate_events 테이블 엔티티 클래스 (수임 동의 상태 변경 이력, 추가만 가능)
+ * 상태 변경과 같은 트랜잭션에서 기록한다.
+ */
+public class MandateEvent {
+    private Long eventId;               // 이력 ID
+    private Long userId;                // 상태가 바뀐 회원
+    private Long actorId;               // 변경을 요청한 사용자 (회원 또는 세무사)
+    private String action;              // 전이: REQUEST, SEND, RELEASE, COMPLETE
+    private String fromStatus;          // 변경 전 상태
+    private String toStatus;            // 변경 후 상태
+    private Integer version;            // 변경 후 버전
+    private Long changeVersion;         // 전체 수임 동의 변경 순번 (users.mandate_change_version)
+    private LocalDateTime createdAt;
+
+    public MandateEvent() {
+    }
+
+    public MandateEvent(Long userId, Long actorId, String action, String fromStatus, String toStatus,
+                        Integer version, Long changeVersion) {
+        this.userId = userId;
+        this.actorId = actorId;
+        this.action = action;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.version = version;
+        this.changeVersion = changeVersion;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(String fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(String toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(Long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "MandateEvent{" +
+                "eventId=" + eventId +
+                ", userId=" + userId +
+                ", actorId=" + actorId +
+                ", action='" + action + '\'' +
+                ", fromStatus='" + fromStatus + '\'' +
+                ", toStatus='" + toStatus + '\'' +
+                ", version=" + version +
+                ", changeVersion=" + changeVersion +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.taxplatform.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세무사용 수임 동의 목록 항목 (users 테이블 일부 컬럼, 불변)
+ */
+public final class MandateListItem {
+    private final Long userId;               // 사용자 ID
+    private final String email;              // 이메일
+    private final String name;               // 이름
+    private final String residentNumber;     // 주민등록번호 (홈택스 수임 동의 요청에 필요)
+    private final String phoneNumber;        // 휴대폰 번호
+    private final String userType;           // 유형
+    private final String businessNumber;     // 사업자등록번호
+    private final String corporateNumber;    // 법인등록번호
+    private final String mandateStatus;      // 수임동의상태
+    private final LocalDateTime updatedAt;   // 수임동의상태 변경 시각 (목록 정렬/커서 기준)
+    private final Long changeVersion;        // 마지막 수임 동의 변경 순번
+
+    public MandateListItem(Long userId,
+                           String email,
+                           String name,
+                           String residentNumber,
+                           String phoneNumber,
+                           String userType,
+                           String businessNumber,
+                           String corporateNumber,
+                           String mandateStatus,
+                           LocalDateTime updatedAt,
+                           Long changeVersion) {
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.residentNumber = residentNumber;
+        this.phoneNumber = phoneNumber;
+        this.userType = userType;
+        this.businessNumber = businessNumber;
+        this.corporateNumber = corporateNumber;
+        this.mandateStatus = mandateStatus;
+        this.updatedAt = updatedAt;
+        this.changeVersion = changeVersion;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getResidentNumber() {
+        return residentNumber;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public String getUserType() {
+        return userType;
+    }
+
+    public String getBusinessNumber() {
+        return businessNumber;
+    }
+
+    public String getCorporateNumber() {
+        return corporateNumber;
+    }
+
+    public String getMandateStatus() {
+        return mandateStatus;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+}
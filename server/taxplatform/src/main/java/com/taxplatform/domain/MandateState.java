@@ -0,0 +1,38 @@
+package com.taxplatform.domain;
+
+/**
+ * 수임 동의 상태 전이 판단용 조회 결과 (users 테이블 일부 컬럼, 불변)
+ * 상태와 함께 낙관적 잠금용 버전을 담는다.
+ */
+public final class MandateState {
+    private final Long userId;             // 사용자 ID
+    private final String mandateStatus;    // 수임동의상태
+    private final Integer mandateVersion;  // 수임동의상태 버전 (전이마다 1씩 증가)
+
+    public MandateState(Long userId, String mandateStatus, Integer mandateVersion) {
+        this.userId = userId;
+        this.mandateStatus = mandateStatus;
+        this.mandateVersion = mandateVersion;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getMandateStatus() {
+        return mandateStatus;
+    }
+
+    public Integer getMandateVersion() {
+        return mandateVersion;
+    }
+
+    @Override
+    public String toString() {
+        return "MandateState{" +
+                "userId=" + userId +
+                ", mandateStatus='" + mandateStatus + '\'' +
+                ", mandateVersion=" + mandateVersion +
+                '}';
+    }
+}
@@ -0,0 +1,157 @@
+package com.taxplatform.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * notification_outbox 테이블 엔티티 클래스
+ * 업무 트랜잭션에서 기록하고, 백그라운드 디스패처가 수신자별 알람으로 전개한다.
+ */
+public class NotificationOutboxEvent {
+    private Long eventId;
+    private Long senderId;              // 알람 보낸 사용자 (nullable)
+    private Long recipientId;           // 알람 받을 사용자 (recipientRole과 둘 중 하나)
+    private String recipientRole;       // 알람 받을 역할: TAX_ACCOUNTANT (해당 역할의 모든 사용자)
+    private String type;                // 알람 타입: CLIENT_TO_TAX, TAX_TO_CLIENT
+    private String message;             // 알람 내용
+    private String status;              // 처리상태: PENDING(대기), DONE(완료), FAILED(재시도 초과)
+    private Integer attempts;           // 처리 시도 횟수
+    private String lastError;           // 마지막 실패 사유
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+
+    public NotificationOutboxEvent() {
+    }
+
+    public NotificationOutboxEvent(Long senderId, Long recipientId, String recipientRole, String type, String message) {
+        this.senderId = senderId;
+        this.recipientId = recipientId;
+        this.recipientRole = recipientRole;
+        this.type = type;
+        this.message = message;
+    }
+
+    /**
+     * 특정 사용자에게 보내는 이벤트 생성
+     */
+    public static NotificationOutboxEvent toUser(Long recipientId, Long senderId, String type, String message) {
+        return new NotificationOutboxEvent(senderId, recipientId, null, type, message);
+    }
+
+    /**
+     * 특정 역할의 모든 사용자에게 보내는 이벤트 생성
+     */
+    public static NotificationOutboxEvent toRole(String recipientRole, Long senderId, String type, String message) {
+        return new NotificationOutboxEvent(senderId, null, recipientRole, type, message);
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public void setSenderId(Long senderId) {
+        this.senderId = senderId;
+    }
+
+    public Long getRecipientId() {
+        return recipientId;
+    }
+
+    public void setRecipientId(Long recipientId) {
+        this.recipientId = recipientId;
+    }
+
+    public String getRecipientRole() {
+        return recipientRole;
+    }
+
+    public void setRecipientRole(String recipientRole) {
+        this.recipientRole = recipientRole;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationOutboxEvent{" +
+                "eventId=" + eventId +
+                ", senderId=" + senderId +
+                ", recipientId=" + recipientId +
+                ", recipientRole='" + recipientRole + '\'' +
+                ", type='" + type + '\'' +
+                ", status='" + status + '\'' +
+                ", attempts=" + attempts +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
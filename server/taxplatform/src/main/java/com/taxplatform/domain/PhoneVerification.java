@@ -0,0 +1,94 @@
+package com.taxplatform.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * phone_verifications 테이블 엔티티 클래스
+ * 휴대폰 번호별 인증번호와 발송/확인 기록
+ */
+public class PhoneVerification {
+    private String phoneNumber;             // 휴대폰 번호 (하이픈 제거)
+    private String code;                    // 인증번호 (확인 완료/폐기 시 null)
+    private LocalDateTime codeExpiresAt;    // 인증번호 만료 시각
+    private Integer verifyAttempts;         // 현재 인증번호 확인 실패 횟수
+    private LocalDateTime lastSentAt;       // 마지막 발송 시각
+    private LocalDateTime windowStartedAt;  // 발송 횟수 제한 구간 시작 시각
+    private Integer sendsInWindow;          // 제한 구간 내 발송 횟수
+
+    public PhoneVerification() {
+    }
+
+    public PhoneVerification(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+        this.verifyAttempts = 0;
+        this.sendsInWindow = 0;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public LocalDateTime getCodeExpiresAt() {
+        return codeExpiresAt;
+    }
+
+    public void setCodeExpiresAt(LocalDateTime codeExpiresAt) {
+        this.codeExpiresAt = codeExpiresAt;
+    }
+
+    public Integer getVerifyAttempts() {
+        return verifyAttempts;
+    }
+
+    public void setVerifyAttempts(Integer verifyAttempts) {
+        this.verifyAttempts = verifyAttempts;
+    }
+
+    public LocalDateTime getLastSentAt() {
+        return lastSentAt;
+    }
+
+    public void setLastSentAt(LocalDateTime lastSentAt) {
+        this.lastSentAt = lastSentAt;
+    }
+
+    public LocalDateTime getWindowStartedAt() {
+        return windowStartedAt;
+    }
+
+    public void setWindowStartedAt(LocalDateTime windowStartedAt) {
+        this.windowStartedAt = windowStartedAt;
+    }
+
+    public Integer getSendsInWindow() {
+        return sendsInWindow;
+    }
+
+    public void setSendsInWindow(Integer sendsInWindow) {
+        this.sendsInWindow = sendsInWindow;
+    }
+
+    @Override
+    public String toString() {
+        return "PhoneVerification{" +
+                "phoneNumber='" + phoneNumber + '\'' +
+                ", codeExpiresAt=" + codeExpiresAt +
+                ", verifyAttempts=" + verifyAttempts +
+                ", lastSentAt=" + lastSentAt +
+                ", windowStartedAt=" + windowStartedAt +
+                ", sendsInWindow=" + sendsInWindow +
+                '}';
+    }
+}
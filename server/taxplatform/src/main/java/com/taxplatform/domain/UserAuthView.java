@@ -0,0 +1,78 @@
+package com.taxplatform.domain;
+
+/**
+ * 로그인 인증용 사용자 조회 결과 (users 테이블 일부 컬럼, 불변)
+ */
+public final class UserAuthView {
+    private final Long userId;          // 사용자 ID
+    private final String username;      // 사용자명
+    private final String email;         // 이메일
+    private final String password;      // 비밀번호 해시
+    private final String name;          // 이름
+    private final String role;          // 역할
+    private final String paymentStatus; // 결제상태
+    private final String mandateStatus; // 수임동의상태
+
+    public UserAuthView(Long userId,
+                        String username,
+                        String email,
+                        String password,
+                        String name,
+                        String role,
+                        String paymentStatus,
+                        String mandateStatus) {
+        this.userId = userId;
+        this.username = username;
+        this.email = email;
+        this.password = password;
+        this.name = name;
+        this.role = role;
+        this.paymentStatus = paymentStatus;
+        this.mandateStatus = mandateStatus;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public String getMandateStatus() {
+        return mandateStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "UserAuthView{" +
+                "userId=" + userId +
+                ", username='" + username + '\'' +
+                ", email='" + email + '\'' +
+                ", name='" + name + '\'' +
+                ", role='" + role + '\'' +
+                ", paymentStatus='" + paymentStatus + '\'' +
+                ", mandateStatus='" + mandateStatus + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.taxplatform.domain;
+
+/**
+ * 프로필 화면용 사용자 조회 결과 (비밀번호/주민등록번호 제외, 불변)
+ * UserCache에 보관되어 여러 스레드가 공유한다.
+ */
+public final class UserProfileView {
+    private final Long userId;            // 사용자 ID
+    private final String username;        // 사용자명
+    private final String email;           // 이메일
+    private final String name;            // 이름
+    private final String phoneNumber;     // 휴대폰 번호
+    private final String postalCode;      // 우편번호
+    private final String address;         // 기본주소
+    private final String addressDetail;   // 상세주소
+    private final String userType;        // 유형
+    private final String businessNumber;  // 사업자등록번호
+    private final String corporateNumber; // 법인등록번호
+    private final String role;            // 역할
+
+    public UserProfileView(Long userId,
+                           String username,
+                           String email,
+                           String name,
+                           String phoneNumber,
+                           String postalCode,
+                           String address,
+                           String addressDetail,
+                           String userType,
+                           String businessNumber,
+                           String corporateNumber,
+                           String role) {
+        this.userId = userId;
+        this.username = username;
+        this.email = email;
+        this.name = name;
+        this.phoneNumber = phoneNumber;
+        this.postalCode = postalCode;
+        this.address = address;
+        this.addressDetail = addressDetail;
+        this.userType = userType;
+        this.businessNumber = businessNumber;
+        this.corporateNumber = corporateNumber;
+        this.role = role;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getAddressDetail() {
+        return addressDetail;
+    }
+
+    public String getUserType() {
+        return userType;
+    }
+
+    public String getBusinessNumber() {
+        return businessNumber;
+    }
+
+    public String getCorporateNumber() {
+        return corporateNumber;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    @Override
+    public String toString() {
+        return "UserProfileView{" +
+                "userId=" + userId +
+                ", username='" + username + '\'' +
+                ", email='" + email + '\'' +
+                ", name='" + name + '\'' +
+                ", phoneNumber='" + phoneNumber + '\'' +
+                ", postalCode='" + postalCode + '\'' +
+                ", address='" + address + '\'' +
+                ", addressDetail='" + addressDetail + '\'' +
+                ", userType='" + userType + '\'' +
+                ", businessNumber='" + businessNumber + '\'' +
+                ", corporateNumber='" + corporateNumber + '\'' +
+                ", role='" + role + '\'' +
+                '}';
+    }
+}
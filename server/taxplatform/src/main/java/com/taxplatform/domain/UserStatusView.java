@@ -0,0 +1,66 @@
+package com.taxplatform.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제/수임 동의 상태 확인용 사용자 조회 결과 (users 테이블 일부 컬럼, 불변)
+ * UserCache에 보관되어 여러 스레드가 공유한다.
+ */
+public final class UserStatusView {
+    private final Long userId;                   // 사용자 ID
+    private final String name;                   // 이름
+    private final String role;                   // 역할
+    private final String paymentStatus;          // 결제상태
+    private final LocalDateTime lastPaymentDate; // 마지막 결제일
+    private final String mandateStatus;          // 수임동의상태
+
+    public UserStatusView(Long userId,
+                          String name,
+                          String role,
+                          String paymentStatus,
+                          LocalDateTime lastPaymentDate,
+                          String mandateStatus) {
+        this.userId = userId;
+        this.name = name;
+        this.role = role;
+        this.paymentStatus = paymentStatus;
+        this.lastPaymentDate = lastPaymentDate;
+        this.mandateStatus = mandateStatus;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public LocalDateTime getLastPaymentDate() {
+        return lastPaymentDate;
+    }
+
+    public String getMandateStatus() {
+        return mandateStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "UserStatusView{" +
+                "userId=" + userId +
+                ", name='" + name + '\'' +
+                ", role='" + role + '\'' +
+                ", paymentStatus='" + paymentStatus + '\'' +
+                ", lastPaymentDate=" + lastPaymentDate +
+                ", mandateStatus='" + mandateStatus + '\'' +
+                '}';
+    }
+}
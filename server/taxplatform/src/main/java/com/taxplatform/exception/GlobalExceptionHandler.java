@@ -3,6 +3,7 @@ package com.taxplatform.exception;
 import com.taxplatform.dto.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +28,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * ServiceBusyException 처리 (작업 대기열 포화, 잠시 후 재시도)
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceBusyException(ServiceBusyException e) {
+        log.warn(">>> 요청 처리 불가 (서버 혼잡): {}", e.getMessage());
+        ApiResponse<Object> response = ApiResponse.error("SERVICE_BUSY", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     /**
      * RuntimeException 처리 (일반 런타임 예외)
      */
@@ -0,0 +1,11 @@
+package com.taxplatform.exception;
+
+/**
+ * 수임 동의 상태를 변경할 수 없는 경우 (허용되지 않는 전이 또는 동시 요청에서 밀린 경우)
+ */
+public class MandateTransitionException extends RuntimeException {
+
+    public MandateTransitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.taxplatform.exception;
+
+/**
+ * 서버가 일시적으로 요청을 처리할 수 없는 경우 (작업 대기열 포화 등)
+ * GlobalExceptionHandler에서 503 Service Unavailable로 응답한다.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+
+    public ServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
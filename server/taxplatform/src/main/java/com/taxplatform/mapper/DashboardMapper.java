@@ -0,0 +1,21 @@
+package com.taxplatform.mapper;
+
+import com.taxplatform.domain.DashboardSnapshot;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 회원 대시보드 MyBatis Mapper 인터페이스
+ * users, notification_unread_counts, notifications를 한 번에 조회
+ */
+@Mapper
+public interface DashboardMapper {
+    
+    /**
+     * 대시보드 스냅샷 조회 (단일 쿼리)
+     * @param userId 사용자 ID
+     * @param notificationLimit 포함할 최신 알람 개수
+     * @return DashboardSnapshot 객체 (사용자가 없으면 null)
+     */
+    DashboardSnapshot findSnapshot(@Param("userId") Long userId, @Param("notificationLimit") int notificationLimit);
+}
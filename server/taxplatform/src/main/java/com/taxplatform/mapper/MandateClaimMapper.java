@@ -0,0 +1,76 @@
+package com.taxplatform.mapper;
+
+import com.taxplatform.domain.MandateListItem;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * mandate_claims 테이블 MyBatis Mapper 인터페이스 (수임 동의 작업 대기열)
+ */
+@Mapper
+public interface MandateClaimMapper {
+
+    /**
+     * 작업 대기열에 회원 추가 (미배정 상태)
+     * @param userId 회원 사용자 ID
+     * @return 저장된 행의 수
+     */
+    int enqueue(Long userId);
+
+    /**
+     * 작업 대기열에서 회원 제거
+     * @param userId 회원 사용자 ID
+     * @return 삭제된 행의 수
+     */
+    int remove(Long userId);
+
+    /**
+     * 배정 가능한 회원 잠금 조회 (다른 트랜잭션이 잠근 행은 건너뜀)
+     * @param limit 최대 조회 개수
+     * @return 회원 사용자 ID 리스트
+     */
+    List<Long> lockClaimableIds(int limit);
+
+    /**
+     * 잠근 회원을 세무사에게 배정
+     * @param userIds 회원 사용자 ID 리스트
+     * @param taxAccountantId 세무사 사용자 ID
+     * @param leaseSeconds 배정 유지 시간 (초)
+     * @return 업데이트된 행의 수
+     */
+    int claim(@Param("userIds") List<Long> userIds,
+              @Param("taxAccountantId") Long taxAccountantId,
+              @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 세무사가 가진 유효한 배정 연장
+     * @param taxAccountantId 세무사 사용자 ID
+     * @param leaseSeconds 배정 유지 시간 (초)
+     * @return 연장된 배정 수
+     */
+    int renewClaims(@Param("taxAccountantId") Long taxAccountantId, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 배정 반납 (본인 배정만)
+     * @param userId 회원 사용자 ID
+     * @param taxAccountantId 세무사 사용자 ID
+     * @return 업데이트된 행의 수
+     */
+    int releaseClaim(@Param("userId") Long userId, @Param("taxAccountantId") Long taxAccountantId);
+
+    /**
+     * 회원을 배정받아 처리 중인 세무사 조회
+     * @param userId 회원 사용자 ID
+     * @return 세무사 사용자 ID (미배정이거나 배정이 만료되었으면 null)
+     */
+    Long findActiveClaimant(Long userId);
+
+    /**
+     * 세무사가 배정받은 회원 목록 (대기열에 들어온 순)
+     * @param taxAccountantId 세무사 사용자 ID
+     * @return 수임 동의 목록 항목 리스트
+     */
+    List<MandateListItem> findClaimedItems(Long taxAccountantId);
+}
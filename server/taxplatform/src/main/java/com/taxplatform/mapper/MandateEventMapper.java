@@ -0,0 +1,40 @@
+package com.taxplatform.mapper;
+
+import com.taxplatform.domain.MandateEvent;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+/**
+ * mandate_events 테이블 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface MandateEventMapper {
+
+    /**
+     * 수임 동의 상태 변경 이력 기록
+     * @param event MandateEvent 객체
+     * @return 저장된 행의 수
+     */
+    int insertEvent(MandateEvent event);
+
+    /**
+     * 전체 수임 동의 변경 순번 1 증가 (상태 전이 트랜잭션 안에서 호출, 커밋까지 다른 전이는 대기)
+     * @return 업데이트된 행의 수
+     */
+    int incrementChangeVersion();
+
+    /**
+     * 전체 수임 동의 변경 순번 조회
+     * 트랜잭션 밖에서 읽으면 커밋된 마지막 순번이며, 그 이하의 전이는 모두 커밋된 것이다.
+     * @return 변경 순번
+     */
+    Long findChangeVersion();
+
+    /**
+     * 회원별 수임 동의 상태 변경 이력 조회
+     * @param userId 회원 사용자 ID
+     * @return 변경 이력 리스트 (오래된 순)
+     */
+    List<MandateEvent> findByUserId(Long userId);
+}
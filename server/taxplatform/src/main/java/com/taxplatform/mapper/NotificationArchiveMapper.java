@@ -0,0 +1,20 @@
+package com.taxplatform.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * notifications_archive 테이블 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface NotificationArchiveMapper {
+    
+    /**
+     * notifications의 알람을 아카이브로 복사
+     * @param notificationIds 복사할 알람 ID 리스트
+     * @return 저장된 행의 수
+     */
+    int copyFromNotifications(@Param("notificationIds") List<Long> notificationIds);
+}
@@ -2,6 +2,8 @@ package com.taxplatform.mapper;
 
 import com.taxplatform.domain.Notification;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,24 +20,77 @@ public interface NotificationMapper {
     int insertNotification(Notification notification);
     
     /**
-     * 사용자별 알람 목록 조회
+     * 알람 일괄 생성 (multi-row INSERT)
+     * @param notifications Notification 객체 리스트 (생성된 notificationId가 각 객체에 설정됨)
+     * @param sourceEventId 알람을 만든 outbox 이벤트 ID (nullable, 같은 이벤트·수신자 중복 생성 시 DuplicateKey 예외)
+     * @return 저장된 행의 수
+     */
+    int insertNotifications(@Param("notifications") List<Notification> notifications,
+                            @Param("sourceEventId") Long sourceEventId);
+    
+    /**
+     * 사용자별 알람 목록 조회 (notification_id 기준 keyset 페이지네이션)
      * @param userId 사용자 ID
-     * @return Notification 객체 리스트
+     * @param before 이 ID보다 작은 알람만 조회 (null이면 최신부터)
+     * @param limit 최대 조회 개수
+     * @return Notification 객체 리스트 (최신순)
+     */
+    List<Notification> findByUserId(@Param("userId") Long userId,
+                                    @Param("before") Long before,
+                                    @Param("limit") int limit);
+    
+    /**
+     * 알람 수신자 조회
+     * @param notificationId 알람 ID
+     * @return 알람 받을 사용자 ID (알람이 없으면 null)
      */
-    List<Notification> findByUserId(Long userId);
+    Long findUserIdById(Long notificationId);
     
     /**
-     * 알람 읽음 처리
+     * 알람 읽음 처리 (읽지 않은 알람만)
      * @param notificationId 알람 ID
-     * @return 업데이트된 행의 수
+     * @return 새로 읽음 처리된 행의 수 (이미 읽은 알람이면 0)
      */
     int markAsRead(Long notificationId);
     
     /**
-     * 읽지 않은 알람 개수 조회
+     * 사용자의 알람 여러 건 일괄 읽음 처리 (읽지 않은 알람만)
+     * @param userId 사용자 ID
+     * @param notificationIds 알람 ID 리스트
+     * @return 새로 읽음 처리된 행의 수
+     */
+    int markAsReadBatch(@Param("userId") Long userId, @Param("notificationIds") List<Long> notificationIds);
+    
+    /**
+     * 사용자의 가장 최신 알람 ID 조회
      * @param userId 사용자 ID
+     * @return 최신 알람 ID (알람이 없으면 null)
+     */
+    Long findMaxNotificationId(Long userId);
+    
+    /**
+     * 읽음 기준 ID 구간 내 읽지 않은 알람 개수 조회
+     * @param userId 사용자 ID
+     * @param afterId 이 ID 초과
+     * @param upToId 이 ID 이하
      * @return 읽지 않은 알람 개수
      */
-    int countUnreadByUserId(Long userId);
+    int countUnreadInRange(@Param("userId") Long userId,
+                           @Param("afterId") Long afterId,
+                           @Param("upToId") Long upToId);
+    
+    /**
+     * 아카이브 대상 알람 ID 조회 (기준 시각 이전에 생성된 읽은 알람)
+     * @param cutoff 이 시각 이전에 생성된 알람
+     * @param limit 최대 조회 개수
+     * @return 알람 ID 리스트 (오래된 순)
+     */
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    /**
+     * 알람 일괄 삭제
+     * @param notificationIds 알람 ID 리스트
+     * @return 삭제된 행의 수
+     */
+    int deleteByIds(@Param("notificationIds") List<Long> notificationIds);
 }
-
@@ -0,0 +1,71 @@
+package com.taxplatform.mapper;
+
+import com.taxplatform.domain.NotificationOutboxEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * notification_outbox 테이블 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface NotificationOutboxMapper {
+    
+    /**
+     * 알람 이벤트 기록
+     * @param event NotificationOutboxEvent 객체
+     * @return 저장된 행의 수
+     */
+    int insertEvent(NotificationOutboxEvent event);
+    
+    /**
+     * 처리할 차례가 된 대기 이벤트 ID 조회
+     * @param limit 최대 조회 개수
+     * @return 이벤트 ID 리스트 (오래된 순)
+     */
+    List<Long> findDispatchableIds(int limit);
+    
+    /**
+     * 대기 이벤트 잠금 조회 (다른 노드가 처리 중이면 건너뜀)
+     * @param eventId 이벤트 ID
+     * @return 잠금을 획득한 대기 이벤트 (이미 처리되었거나 잠겨 있으면 null)
+     */
+    NotificationOutboxEvent lockPendingById(Long eventId);
+    
+    /**
+     * 처리 완료 표시
+     * @param eventId 이벤트 ID
+     * @return 업데이트된 행의 수
+     */
+    int markDone(Long eventId);
+    
+    /**
+     * 처리 실패 기록 및 재시도 예약 (지수 백오프, 최대 시도 횟수 초과 시 FAILED)
+     * @param eventId 이벤트 ID
+     * @param lastError 실패 사유
+     * @param baseDelaySeconds 첫 재시도까지 대기 시간(초), 실패할 때마다 2배씩 증가
+     * @param maxAttempts 최대 시도 횟수
+     * @return 업데이트된 행의 수
+     */
+    int markRetry(@Param("eventId") Long eventId,
+                  @Param("lastError") String lastError,
+                  @Param("baseDelaySeconds") long baseDelaySeconds,
+                  @Param("maxAttempts") int maxAttempts);
+    
+    /**
+     * 보관 기간이 지난 완료 이벤트 ID 조회
+     * @param cutoff 이 시각 이전에 처리 완료된 이벤트
+     * @param limit 최대 조회 개수
+     * @return 이벤트 ID 리스트
+     */
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    /**
+     * 완료 이벤트 일괄 삭제 (DONE 상태만 삭제)
+     * @param eventIds 삭제할 이벤트 ID 리스트
+     * @return 삭제된 행의 수
+     */
+    int deleteByIds(@Param("eventIds") List<Long> eventIds);
+}
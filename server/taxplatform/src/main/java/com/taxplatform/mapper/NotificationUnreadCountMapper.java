@@ -0,0 +1,84 @@
+package com.taxplatform.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * notification_unread_counts 테이블 MyBatis Mapper 인터페이스
+ * 사용자별 읽지 않은 알람 개수를 미리 계산해 보관
+ */
+@Mapper
+public interface NotificationUnreadCountMapper {
+    
+    /**
+     * 읽지 않은 알람 개수 조회 (PK 조회)
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알람 개수 (행이 없으면 0)
+     */
+    int findUnreadCount(Long userId);
+    
+    /**
+     * 읽지 않은 알람 개수 증가 (행이 없으면 생성)
+     * @param userId 사용자 ID
+     * @param delta 증가할 개수
+     * @return 영향받은 행의 수
+     */
+    int increment(@Param("userId") Long userId, @Param("delta") int delta);
+    
+    /**
+     * 여러 사용자의 읽지 않은 알람 개수를 한 번에 증가 (multi-row INSERT ... ON DUPLICATE KEY UPDATE)
+     * @param deltas 사용자 ID별 증가할 개수
+     * @return 영향받은 행의 수
+     */
+    int incrementAll(@Param("deltas") Map<Long, Integer> deltas);
+    
+    /**
+     * 읽지 않은 알람 개수 감소 (0 미만으로 내려가지 않음)
+     * @param userId 사용자 ID
+     * @param delta 감소할 개수
+     * @return 영향받은 행의 수
+     */
+    int decrement(@Param("userId") Long userId, @Param("delta") int delta);
+    
+    /**
+     * 읽음 기준 ID 잠금 조회
+     * @param userId 사용자 ID
+     * @return 읽음 기준 ID (행이 없으면 null)
+     */
+    Long findReadWatermarkForUpdate(Long userId);
+    
+    /**
+     * 읽음 기준 ID를 올리고 그 사이에 읽음 처리된 개수만큼 카운터 감소 (행이 없으면 생성)
+     * @param userId 사용자 ID
+     * @param upToId 새 읽음 기준 ID
+     * @param readCount 새로 읽음 처리된 알람 개수
+     * @return 영향받은 행의 수
+     */
+    int advanceReadWatermark(@Param("userId") Long userId,
+                             @Param("upToId") Long upToId,
+                             @Param("readCount") int readCount);
+    
+    /**
+     * 알람은 있지만 카운터 행이 없는 사용자의 행 생성 (개수 0)
+     * @return 영향받은 행의 수
+     */
+    int insertMissing();
+    
+    /**
+     * 카운터 행이 있는 사용자 ID 조회 (사용자 ID 순)
+     * @param afterUserId 이 사용자 ID 이후
+     * @param limit 최대 조회 개수
+     * @return 사용자 ID 리스트
+     */
+    List<Long> findUserIdsAfter(@Param("afterUserId") long afterUserId, @Param("limit") int limit);
+    
+    /**
+     * notifications 테이블 기준으로 한 사용자의 개수를 다시 계산 (UPDATE 한 문장)
+     * @param userId 사용자 ID
+     * @return 영향받은 행의 수
+     */
+    int reconcileUser(Long userId);
+}
@@ -0,0 +1,46 @@
+package com.taxplatform.mapper;
+
+import com.taxplatform.domain.PhoneVerification;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * phone_verifications 테이블 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface PhoneVerificationMapper {
+    
+    /**
+     * 번호별 행이 없으면 빈 행 생성 (이후 잠금 조회가 항상 기존 행을 잠그도록 함)
+     * @param phoneNumber 휴대폰 번호
+     * @return 생성된 행의 수
+     */
+    int insertIfAbsent(String phoneNumber);
+    
+    /**
+     * 번호별 인증 상태 잠금 조회
+     * @param phoneNumber 휴대폰 번호
+     * @return 인증 상태 (없으면 null)
+     */
+    PhoneVerification findForUpdate(String phoneNumber);
+    
+    /**
+     * 번호별 인증 상태 저장
+     * @param verification PhoneVerification 객체
+     * @return 업데이트된 행의 수
+     */
+    int updateVerification(PhoneVerification verification);
+    
+    /**
+     * 인증번호가 만료되고 발송 제한 구간도 끝난 행 삭제
+     * @param now 현재 시각
+     * @param windowCutoff 이 시각 이전에 시작된 발송 제한 구간은 끝난 것으로 간주
+     * @param limit 한 번에 삭제할 최대 행 수
+     * @return 삭제된 행의 수
+     */
+    int deleteExpired(@Param("now") LocalDateTime now,
+                      @Param("windowCutoff") LocalDateTime windowCutoff,
+                      @Param("limit") int limit);
+}
@@ -1,7 +1,15 @@
 package com.taxplatform.mapper;
 
+import com.taxplatform.domain.MandateListItem;
+import com.taxplatform.domain.MandateState;
 import com.taxplatform.domain.User;
+import com.taxplatform.domain.UserAuthView;
+import com.taxplatform.domain.UserProfileView;
+import com.taxplatform.domain.UserStatusView;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
 
 /**
  * User 테이블 MyBatis Mapper 인터페이스
@@ -17,65 +25,154 @@ public interface UserMapper {
     int insertUser(User user);
     
     /**
-     * 사용자명으로 사용자 조회
+     * 사용자명으로 로그인 정보 조회 (인증에 필요한 컬럼만 조회)
      * @param username 사용자명
-     * @return User 객체
+     * @return UserAuthView 객체 (없으면 null)
      */
-    User findByUsername(String username);
+    UserAuthView findAuthByUsername(String username);
     
     /**
-     * 이메일로 사용자 조회
+     * 이메일로 로그인 정보 조회 (인증에 필요한 컬럼만 조회)
      * @param email 이메일
-     * @return User 객체
+     * @return UserAuthView 객체 (없으면 null)
      */
-    User findByEmail(String email);
+    UserAuthView findAuthByEmail(String email);
     
     /**
-     * 사용자명 또는 이메일로 사용자 조회 (로그인용)
-     * @param usernameOrEmail 사용자명 또는 이메일
-     * @return User 객체
+     * 사용자 ID로 로그인 정보 조회 (비밀번호 확인용)
+     * @param userId 사용자 ID
+     * @return UserAuthView 객체 (없으면 null)
      */
-    User findByUsernameOrEmail(String usernameOrEmail);
+    UserAuthView findAuthById(Long userId);
     
     /**
-     * 사용자 ID로 사용자 조회
+     * 이메일 사용 여부 확인 (uk_users_email 인덱스만 읽음)
+     * @param email 이메일
+     * @return 이미 사용 중이면 true
+     */
+    boolean existsByEmail(String email);
+    
+    /**
+     * 사용자 ID로 결제/수임 동의 상태 조회
      * @param userId 사용자 ID
-     * @return User 객체
+     * @return UserStatusView 객체 (없으면 null)
      */
-    User findById(Long userId);
+    UserStatusView findStatusById(Long userId);
     
     /**
-     * 결제 상태 업데이트
-     * @param user User 객체 (userId, paymentStatus, lastPaymentDate 필요)
-     * @return 업데이트된 행의 수
+     * 사용자 ID로 프로필 조회 (비밀번호/주민등록번호 제외)
+     * @param userId 사용자 ID
+     * @return UserProfileView 객체 (없으면 null)
      */
-    int updatePaymentStatus(User user);
+    UserProfileView findProfileById(Long userId);
     
     /**
-     * 수임 동의 상태 업데이트
-     * @param user User 객체 (userId, mandateStatus 필요)
+     * 결제 완료 처리 (PAID, 마지막 결제일 갱신)
+     * @param userId 사용자 ID
+     * @param paidAt 결제 시각
+     * @return 업데이트된 행의 수 (사용자가 없으면 0)
+     */
+    int markPaid(@Param("userId") Long userId, @Param("paidAt") LocalDateTime paidAt);
+    
+    /**
+     * 결제 만료 대상 사용자 ID 조회 (PAID 이면서 마지막 결제일이 기준 시각 이전)
+     * @param cutoff 이 시각 이전에 결제한 사용자
+     * @param limit 최대 조회 개수
+     * @return 사용자 ID 리스트
+     */
+    java.util.List<Long> findExpiredPaidUserIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    /**
+     * 결제 만료 처리 (PAID → UNPAID, 조회 이후 재결제한 사용자는 제외)
+     * @param userIds 사용자 ID 리스트
+     * @param cutoff 이 시각 이전에 결제한 사용자
      * @return 업데이트된 행의 수
      */
-    int updateMandateStatus(User user);
+    int expirePayments(@Param("userIds") java.util.List<Long> userIds, @Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * 수임 동의 상태와 버전 조회 (상태 전이 판단용)
+     * @param userId 사용자 ID
+     * @return MandateState 객체 (없으면 null)
+     */
+    MandateState findMandateState(Long userId);
+    
+    /**
+     * 수임 동의 상태 변경 (저장된 버전이 expectedVersion과 같을 때만 변경하고 버전 1 증가)
+     * 변경 순번과 변경 시각도 같은 UPDATE에서 기록한다.
+     * @param userId 사용자 ID
+     * @param expectedVersion 조회 시점의 버전
+     * @param toStatus 변경할 상태
+     * @param changeVersion 이번 변경의 순번 (mandate_change_seq에서 발급)
+     * @return 업데이트된 행의 수 (그 사이 다른 요청이 상태를 바꿨으면 0)
+     */
+    int compareAndSetMandateStatus(@Param("userId") Long userId,
+                                   @Param("expectedVersion") Integer expectedVersion,
+                                   @Param("toStatus") String toStatus,
+                                   @Param("changeVersion") Long changeVersion);
+    
+    /**
+     * 역할별 사용자 ID 목록 조회
+     * @param role 역할 (CLIENT, TAX_ACCOUNTANT)
+     * @return 사용자 ID 리스트
+     */
+    java.util.List<Long> findUserIdsByRole(String role);
     
     /**
-     * 모든 세무사 목록 조회
-     * @return 세무사 User 객체 리스트
+     * 수임 동의 목록 한 페이지 조회 (상태 하나, 최근 수임 동의 상태 변경 순)
+     * @param status 수임동의상태 (REQUESTED, SENT, COMPLETED)
+     * @param from 이 시각 이후 변경된 회원만 (null이면 제한 없음)
+     * @param to 이 시각 이전 변경된 회원만 (null이면 제한 없음)
+     * @param cursorUpdatedAt 이전 페이지 마지막 항목의 변경 시각 (null이면 처음부터)
+     * @param cursorUserId 이전 페이지 마지막 항목의 사용자 ID
+     * @param limit 최대 조회 개수
+     * @return 수임 동의 목록 항목 리스트
      */
-    java.util.List<User> findAllTaxAccountants();
+    java.util.List<MandateListItem> findMandateListPage(@Param("status") String status,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to,
+                                                        @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                                        @Param("cursorUserId") Long cursorUserId,
+                                                        @Param("limit") int limit);
     
     /**
-     * 수임 동의 신청한 모든 회원 조회 (REQUESTED, SENT, COMPLETED 상태)
-     * @return 수임 동의 신청 회원 리스트
+     * since 이후 수임 동의 상태가 바뀐 회원 조회 (변경 순번 순, NONE으로 돌아간 회원 포함)
+     * @param since 이 변경 순번 이후
+     * @param until 이 변경 순번까지 (MandateChangeRegister가 공개한 순번)
+     * @param limit 최대 조회 개수
+     * @return 수임 동의 목록 항목 리스트
      */
-    java.util.List<User> findAllMandateRequests();
+    java.util.List<MandateListItem> findMandateChanges(@Param("since") long since,
+                                                       @Param("until") long until,
+                                                       @Param("limit") int limit);
+    
+    /**
+     * 상태별 수임 동의 건수 조회
+     * @param from 이 시각 이후 변경된 회원만 (null이면 제한 없음)
+     * @param to 이 시각 이전 변경된 회원만 (null이면 제한 없음)
+     * @return status, total 컬럼을 가진 행 리스트
+     */
+    java.util.List<java.util.Map<String, Object>> countMandateRequestsByStatus(@Param("from") LocalDateTime from,
+                                                                             @Param("to") LocalDateTime to);
 
     /**
-     * 사용자 프로필 정보 업데이트
+     * 사용자 프로필 정보 업데이트 (null이 아닌 항목만 변경)
      * @param user 업데이트할 사용자 정보 (userId, name, email, phoneNumber, postalCode, address, addressDetail)
-     * @return 업데이트된 행의 수
+     * @return 업데이트된 행의 수 (사용자가 없으면 0)
+     * @throws org.springframework.dao.DuplicateKeyException 다른 사용자가 사용 중인 이메일인 경우
      */
     int updateProfile(User user);
+
+    /**
+     * 비밀번호 해시 변경 (저장된 해시가 expectedHash와 같을 때만 변경)
+     * @param userId 사용자 ID
+     * @param expectedHash 현재 저장되어 있어야 하는 해시
+     * @param newHash 새 해시
+     * @return 업데이트된 행의 수 (그 사이 비밀번호가 바뀌었으면 0)
+     */
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("expectedHash") String expectedHash,
+                           @Param("newHash") String newHash);
 }
 
 
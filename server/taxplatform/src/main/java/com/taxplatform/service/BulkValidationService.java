@@ -0,0 +1,369 @@
+package com.taxplatform.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxplatform.util.RegistrationNumberValidator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사업자등록번호/법인등록번호 대량 검증 서비스
+ * 요청 본문을 chunk-size 줄씩 읽어 검증하고 결과를 NDJSON으로 즉시 내보내므로
+ * 전체 요청이나 응답을 메모리에 올리지 않는다.
+ * 큰 chunk는 전용 스레드 풀에서 나누어 병렬 검증하고, 결과는 입력 순서대로 출력한다.
+ *
+ * 입력 형식 (한 줄에 하나, 빈 줄 무시, 첫 줄의 UTF-8 BOM 제거):
+ *   번호                  - 숫자 자릿수로 구분 (10자리: 사업자, 그 외: 법인, 헤더와 관계없이 허용)
+ *   BUSINESS,번호 / CORPORATE,번호 - CSV 형식으로 종류 지정
+ * 첫 데이터 줄에 숫자가 없으면 헤더로 보고 열 순서를 정한다.
+ * 허용하는 헤더는 number, type,number, number,type 뿐이며 그 외 헤더는 요청 전체를 거부한다.
+ */
+@Service
+public class BulkValidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkValidationService.class);
+
+    /**
+     * 번호 종류
+     */
+    public enum NumberType {
+        BUSINESS,   // 사업자등록번호
+        CORPORATE   // 법인등록번호
+    }
+
+    private final JsonFactory jsonFactory;
+    private final ExecutorService executor;
+    private final int threads;
+    private final int chunkSize;
+    private final int parallelThreshold;
+    private final int maxRows;
+
+    public BulkValidationService(ObjectMapper objectMapper,
+                                 @Value("${validation.bulk.threads:4}") int threads,
+                                 @Value("${validation.bulk.chunk-size:2000}") int chunkSize,
+                                 @Value("${validation.bulk.parallel-threshold:500}") int parallelThreshold,
+                                 @Value("${validation.bulk.max-rows:100000}") int maxRows) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.parallelThreshold = parallelThreshold;
+        this.maxRows = maxRows;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-validation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 번호 목록을 읽어 검증 결과를 한 줄씩 출력 (open + validate)
+     * @param in 요청 본문 (UTF-8)
+     * @param out 응답 본문
+     * @throws IllegalArgumentException 지원하지 않는 헤더인 경우
+     */
+    public void validate(InputStream in, OutputStream out) throws IOException {
+        validate(open(in), out);
+    }
+
+    /**
+     * 첫 데이터 줄까지 읽어 열 순서 결정 (응답을 쓰기 전에 호출해 형식 오류를 400으로 돌려줄 수 있게 함)
+     * @param in 요청 본문 (UTF-8)
+     * @return 열 순서가 정해진 입력
+     * @throws IllegalArgumentException 지원하지 않는 헤더인 경우
+     */
+    public BulkInput open(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (lineNumber == 1 && trimmed.startsWith("\uFEFF")) {
+                trimmed = trimmed.substring(1).trim();
+            }
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (containsDigit(trimmed)) {
+                return new BulkInput(reader, Columns.HEADERLESS, trimmed, lineNumber);
+            }
+            return new BulkInput(reader, Columns.fromHeader(trimmed), null, lineNumber);
+        }
+        return new BulkInput(reader, Columns.HEADERLESS, null, lineNumber);
+    }
+
+    /**
+     * 번호 목록을 읽어 검증 결과를 한 줄씩 출력
+     * 출력 예: {"line":1,"type":"BUSINESS","number":"220-81-62517","valid":true,"message":"유효한 사업자등록번호입니다."}
+     * 형식이 맞지 않는 행은 검증하지 않고 valid=false와 사유를 출력한다.
+     * max-rows를 넘는 줄은 검증하지 않고 마지막에 오류 행을 출력한다.
+     *
+     * @param input open으로 연 입력
+     * @param out 응답 본문
+     */
+    public void validate(BulkInput input, OutputStream out) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(out);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        long startedAt = System.currentTimeMillis();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        int lineNumber = input.lineNumber;
+        int rows = 0;
+        boolean truncated = false;
+        String line = input.firstLine;
+        if (line == null) {
+            line = input.reader.readLine();
+            lineNumber++;
+        }
+
+        for (; line != null; line = input.reader.readLine(), lineNumber++) {
+            Row row = parse(line, lineNumber, input.columns);
+            if (row == null) {
+                continue;
+            }
+            if (rows >= maxRows) {
+                truncated = true;
+                break;
+            }
+            chunk.add(row);
+            rows++;
+
+            if (chunk.size() == chunkSize) {
+                writeChunk(generator, chunk);
+                chunk.clear();
+            }
+        }
+        writeChunk(generator, chunk);
+
+        if (truncated) {
+            generator.writeStartObject();
+            generator.writeBooleanField("valid", false);
+            generator.writeStringField("message", "한 번에 최대 " + maxRows + "건까지 검증할 수 있습니다. 이후 행은 검증하지 않았습니다.");
+            generator.writeEndObject();
+        }
+        generator.writeRaw('\n');
+        generator.flush();
+
+        log.info(">>> 대량 번호 검증 완료: rows={}, truncated={}, elapsed={}ms",
+                rows, truncated, System.currentTimeMillis() - startedAt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 한 줄을 검증 대상 행으로 변환 (빈 줄은 null)
+     */
+    private Row parse(String line, int lineNumber, Columns columns) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+
+        String[] cells = trimmed.split(",", -1);
+        if (cells.length == 1) {
+            // 번호만 있는 줄은 어느 형식에서나 허용 (종류는 자릿수로 구분)
+            return new Row(lineNumber, inferType(trimmed), trimmed, null);
+        }
+        if (cells.length != columns.count) {
+            return Row.rejected(lineNumber, trimmed, "열 개수가 형식과 다릅니다. (" + columns.describe() + ")");
+        }
+
+        String number = cells[columns.numberIndex].trim();
+        if (columns.typeIndex < 0) {
+            return new Row(lineNumber, inferType(number), number, null);
+        }
+        String type = cells[columns.typeIndex].trim();
+        for (NumberType candidate : NumberType.values()) {
+            if (candidate.name().equalsIgnoreCase(type)) {
+                return new Row(lineNumber, candidate, number, null);
+            }
+        }
+        return Row.rejected(lineNumber, number, "알 수 없는 번호 종류입니다. (BUSINESS 또는 CORPORATE)");
+    }
+
+    private boolean containsDigit(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isDigit(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private NumberType inferType(String number) {
+        int digits = 0;
+        for (int i = 0; i < number.length(); i++) {
+            if (number.charAt(i) != '-') {
+                digits++;
+            }
+        }
+        return digits == 10 ? NumberType.BUSINESS : NumberType.CORPORATE;
+    }
+
+    private void writeChunk(JsonGenerator generator, List<Row> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        RegistrationNumberValidator.Result[] results = validateChunk(chunk);
+        for (int i = 0; i < chunk.size(); i++) {
+            Row row = chunk.get(i);
+            generator.writeStartObject();
+            generator.writeNumberField("line", row.lineNumber());
+            if (row.type() != null) {
+                generator.writeStringField("type", row.type().name());
+            }
+            generator.writeStringField("number", row.number());
+            generator.writeBooleanField("valid", row.error() == null && results[i].valid());
+            generator.writeStringField("message", row.error() != null ? row.error() : results[i].message());
+            generator.writeEndObject();
+        }
+        generator.flush();
+    }
+
+    /**
+     * chunk 검증 (parallel-threshold 이상이면 스레드 수만큼 나누어 병렬 처리)
+     */
+    private RegistrationNumberValidator.Result[] validateChunk(List<Row> chunk) throws IOException {
+        RegistrationNumberValidator.Result[] results = new RegistrationNumberValidator.Result[chunk.size()];
+        if (chunk.size() < parallelThreshold || threads <= 1) {
+            validateRange(chunk, results, 0, chunk.size());
+            return results;
+        }
+
+        int sliceSize = (chunk.size() + threads - 1) / threads;
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            int start = from;
+            int end = Math.min(from + sliceSize, chunk.size());
+            futures.add(executor.submit(() -> validateRange(chunk, results, start, end)));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("대량 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("대량 검증 중 오류가 발생했습니다.", e.getCause());
+        }
+        return results;
+    }
+
+    private void validateRange(List<Row> chunk, RegistrationNumberValidator.Result[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Row row = chunk.get(i);
+            if (row.error() != null) {
+                continue;
+            }
+            results[i] = row.type() == NumberType.BUSINESS
+                    ? RegistrationNumberValidator.validateBusinessNumber(row.number())
+                    : RegistrationNumberValidator.validateCorporateNumber(row.number());
+        }
+    }
+
+    /**
+     * 열 순서가 정해진 입력 (open 결과)
+     */
+    public static class BulkInput {
+        private final BufferedReader reader;
+        private final Columns columns;
+        private final String firstLine;   // 헤더가 없을 때 이미 읽은 첫 데이터 줄
+        private final int lineNumber;     // 지금까지 읽은 줄 번호
+
+        private BulkInput(BufferedReader reader, Columns columns, String firstLine, int lineNumber) {
+            this.reader = reader;
+            this.columns = columns;
+            this.firstLine = firstLine;
+            this.lineNumber = lineNumber;
+        }
+    }
+
+    /**
+     * CSV 열 순서
+     */
+    private static final class Columns {
+        // 헤더가 없으면 "번호" 또는 "종류,번호"
+        static final Columns HEADERLESS = new Columns(2, 0, 1);
+
+        final int count;
+        final int typeIndex;    // 종류 열 (없으면 -1)
+        final int numberIndex;  // 번호 열
+
+        private Columns(int count, int typeIndex, int numberIndex) {
+            this.count = count;
+            this.typeIndex = typeIndex;
+            this.numberIndex = numberIndex;
+        }
+
+        /**
+         * 헤더로 열 순서 결정 (number, type,number, number,type 만 허용)
+         */
+        static Columns fromHeader(String header) {
+            String[] names = header.toLowerCase(Locale.ROOT).split(",", -1);
+            int typeIndex = -1;
+            int numberIndex = -1;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i].trim();
+                if ("type".equals(name) && typeIndex < 0) {
+                    typeIndex = i;
+                } else if ("number".equals(name) && numberIndex < 0) {
+                    numberIndex = i;
+                } else {
+                    numberIndex = -1;
+                    break;
+                }
+            }
+            if (numberIndex < 0) {
+                throw new IllegalArgumentException(
+                        "지원하지 않는 헤더입니다: " + header + " (number, type,number 또는 number,type 형식을 사용해주세요.)");
+            }
+            return new Columns(names.length, typeIndex, numberIndex);
+        }
+
+        String describe() {
+            if (this == HEADERLESS) {
+                return "번호 또는 종류,번호";
+            }
+            if (typeIndex < 0) {
+                return "number";
+            }
+            return typeIndex < numberIndex ? "type,number" : "number,type";
+        }
+    }
+
+    /**
+     * 검증 대상 행 (error가 있으면 검증하지 않고 그대로 실패 처리)
+     */
+    private record Row(int lineNumber, NumberType type, String number, String error) {
+        static Row rejected(int lineNumber, String number, String error) {
+            return new Row(lineNumber, null, number, error);
+        }
+    }
+}
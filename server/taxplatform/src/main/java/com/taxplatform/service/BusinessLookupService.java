@@ -0,0 +1,206 @@
+package com.taxplatform.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taxplatform.domain.BusinessInfo;
+import com.taxplatform.util.CircuitBreaker;
+import com.taxplatform.util.RegistrationNumberValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사업자등록번호 외부 조회 어댑터
+ * - 결과 캐시: 등록된 번호는 found-ttl, 등록되지 않은 번호는 not-found-ttl 동안 보관 (실패는 캐시하지 않음)
+ * - 요청 병합: 같은 번호를 동시에 조회하면 진행 중인 외부 호출 하나를 함께 기다림
+ * - 동시 호출 제한: 전용 스레드 풀(max-concurrent)과 대기열(queue-capacity)을 넘으면 즉시 조회 불가 처리
+ * - 타임아웃/서킷 브레이커: timeout-millis 이상 기다리지 않고, 연속 실패 시 외부 호출을 잠시 중단
+ * 외부 API가 느리거나 장애여도 호출자는 timeout-millis 안에 응답을 받는다.
+ * (타임아웃 이후 도착한 결과는 캐시에 저장되어 다음 조회에 사용된다)
+ */
+@Service
+public class BusinessLookupService {
+
+    private static final Logger log = LoggerFactory.getLogger(BusinessLookupService.class);
+
+    /**
+     * 조회 결과 상태
+     */
+    public enum Status {
+        FOUND,          // 등록된 사업자
+        NOT_FOUND,      // 등록되지 않은 번호
+        UNAVAILABLE     // 외부 API 지연/장애로 확인 불가
+    }
+
+    /**
+     * 조회 결과
+     * @param status 조회 결과 상태
+     * @param info 사업자 정보 (FOUND일 때만 존재)
+     */
+    public record LookupResult(Status status, BusinessInfo info) {
+    }
+
+    private static final LookupResult NOT_FOUND = new LookupResult(Status.NOT_FOUND, null);
+    private static final LookupResult UNAVAILABLE = new LookupResult(Status.UNAVAILABLE, null);
+
+    private final BusinessRegistryClient businessRegistryClient;
+    private final AsyncCache<String, LookupResult> cache;
+    private final ThreadPoolExecutor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final long timeoutMillis;
+
+    public BusinessLookupService(BusinessRegistryClient businessRegistryClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${business-lookup.cache.maximum-size:10000}") long maximumSize,
+                                 @Value("${business-lookup.cache.found-ttl-seconds:86400}") long foundTtlSeconds,
+                                 @Value("${business-lookup.cache.not-found-ttl-seconds:600}") long notFoundTtlSeconds,
+                                 @Value("${business-lookup.max-concurrent:8}") int maxConcurrent,
+                                 @Value("${business-lookup.queue-capacity:100}") int queueCapacity,
+                                 @Value("${business-lookup.timeout-millis:1500}") long timeoutMillis,
+                                 @Value("${business-lookup.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                 @Value("${business-lookup.circuit-breaker.open-seconds:30}") long openSeconds) {
+        this.businessRegistryClient = businessRegistryClient;
+        this.timeoutMillis = timeoutMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openSeconds * 1000L);
+
+        Duration foundTtl = Duration.ofSeconds(foundTtlSeconds);
+        Duration notFoundTtl = Duration.ofSeconds(notFoundTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, LookupResult>writing(
+                        (number, result) -> result.status() == Status.FOUND ? foundTtl : notFoundTtl))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "businessLookups");
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "business-lookup-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 사업자등록번호 검증 (형식/검증번호 확인 후 외부 조회)
+     * 외부 조회가 불가능하면 형식 검증 결과로 통과시키고 verified=false로 표시한다.
+     *
+     * @param businessNumber 사업자등록번호 (하이픈 포함 가능)
+     * @return 검증 결과
+     */
+    public Map<String, Object> verifyBusinessNumber(String businessNumber) {
+        Map<String, Object> result = new HashMap<>();
+
+        // 형식 및 검증번호 확인
+        RegistrationNumberValidator.Result validation = RegistrationNumberValidator.validateBusinessNumber(businessNumber);
+        if (!validation.valid()) {
+            result.put("valid", false);
+            result.put("message", validation.message());
+            return result;
+        }
+
+        LookupResult lookup = lookup(businessNumber.replace("-", ""));
+        switch (lookup.status()) {
+            case FOUND:
+                BusinessInfo info = lookup.info();
+                if (info.isClosed()) {
+                    result.put("valid", false);
+                    result.put("message", "폐업한 사업자등록번호입니다.");
+                    return result;
+                }
+                result.put("valid", true);
+                result.put("verified", true);
+                result.put("message", validation.message());
+                result.put("businessName", info.getBusinessName());
+                result.put("businessType", info.getBusinessType());
+                result.put("businessStatus", info.getBusinessStatus());
+                return result;
+            case NOT_FOUND:
+                result.put("valid", false);
+                result.put("message", "국세청에 등록되지 않은 사업자등록번호입니다.");
+                return result;
+            default:
+                result.put("valid", true);
+                result.put("verified", false);
+                result.put("message", "사업자등록번호 형식이 확인되었습니다. 사업자 정보는 추후 확인됩니다.");
+                return result;
+        }
+    }
+
+    /**
+     * 사업자등록번호 외부 조회 (캐시 우선)
+     * @param businessNumber 사업자등록번호 (하이픈 제거 10자리)
+     * @return 조회 결과 (timeout-millis 안에 확인하지 못하면 UNAVAILABLE)
+     */
+    public LookupResult lookup(String businessNumber) {
+        CompletableFuture<LookupResult> future = cache.get(businessNumber, (number, cacheExecutor) -> callUpstream(number));
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn(">>> 사업자 조회 타임아웃: businessNumber={}, timeoutMillis={}", businessNumber, timeoutMillis);
+            return UNAVAILABLE;
+        } catch (ExecutionException e) {
+            log.warn(">>> 사업자 조회 실패: businessNumber={}, reason={}", businessNumber, e.getCause().getMessage());
+            return UNAVAILABLE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 서킷 브레이커 상태 조회
+     * @return 서킷 상태
+     */
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 외부 API 호출 (실패한 future는 캐시에서 자동 제거되어 다음 조회 때 다시 호출)
+     */
+    private CompletableFuture<LookupResult> callUpstream(String businessNumber) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("사업자 조회 서킷이 열려 있습니다."));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    BusinessInfo info = businessRegistryClient.lookup(businessNumber);
+                    circuitBreaker.recordSuccess();
+                    return info == null ? NOT_FOUND : new LookupResult(Status.FOUND, info);
+                } catch (RuntimeException e) {
+                    circuitBreaker.recordFailure();
+                    throw e;
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("사업자 조회 요청이 많아 처리할 수 없습니다.", e));
+        }
+    }
+}
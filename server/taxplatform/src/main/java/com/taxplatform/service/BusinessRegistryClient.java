@@ -0,0 +1,19 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.BusinessInfo;
+
+/**
+ * 외부 사업자등록정보 조회 클라이언트
+ * business-lookup.client 설정으로 구현체를 선택한다. (stub: 모의 응답, nts: 국세청 사업자등록 상태조회 API)
+ * 캐시/동시 호출 제한/타임아웃은 BusinessLookupService에서 처리하므로 구현체는 단순 호출만 담당한다.
+ */
+public interface BusinessRegistryClient {
+
+    /**
+     * 사업자등록번호 조회
+     * @param businessNumber 사업자등록번호 (하이픈 제거 10자리)
+     * @return 사업자 정보 (등록되지 않은 번호면 null)
+     * @throws RuntimeException 외부 API 호출 실패
+     */
+    BusinessInfo lookup(String businessNumber);
+}
@@ -0,0 +1,115 @@
+package com.taxplatform.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.taxplatform.domain.DashboardSnapshot;
+import com.taxplatform.domain.Notification;
+import com.taxplatform.mapper.DashboardMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 회원 대시보드 스냅샷 서비스
+ * 결제 상태, 수임 동의 상태, 읽지 않은 알람 개수, 최신 알람 목록을 한 번의 DB 왕복으로 모아
+ * 대시보드가 API별로 따로 폴링하지 않도록 한다.
+ * 응답 내용으로 만든 ETag를 함께 돌려주어 바뀐 것이 없으면 304로 본문 전송을 생략할 수 있다.
+ */
+@Service
+public class DashboardService {
+
+    private final DashboardMapper dashboardMapper;
+    private final PaymentService paymentService;
+    private final int notificationLimit;
+
+    public DashboardService(DashboardMapper dashboardMapper,
+                            PaymentService paymentService,
+                            @Value("${dashboard.notification-limit:20}") int notificationLimit) {
+        this.dashboardMapper = dashboardMapper;
+        this.paymentService = paymentService;
+        this.notificationLimit = notificationLimit;
+    }
+
+    /**
+     * 대시보드 스냅샷 조회
+     * @param userId 사용자 ID
+     * @return 대시보드 정보
+     */
+    public DashboardView getDashboard(Long userId) {
+        if (userId == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+
+        DashboardSnapshot snapshot = dashboardMapper.findSnapshot(userId, notificationLimit);
+        if (snapshot == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+
+        PaymentService.PaymentStatusInfo payment =
+                paymentService.evaluatePaymentStatus(snapshot.getPaymentStatus(), snapshot.getLastPaymentDate());
+        return new DashboardView(payment, snapshot.getMandateStatus(), snapshot.getUnreadCount(),
+                snapshot.getNotifications());
+    }
+
+    /**
+     * 화면에 보이는 값으로 ETag 계산 (알람은 ID와 읽음 여부만 반영, 내용은 바뀌지 않음)
+     */
+    private static String computeEtag(PaymentService.PaymentStatusInfo payment, String mandateStatus,
+                                      int unreadCount, List<Notification> notifications) {
+        StringBuilder source = new StringBuilder()
+                .append(payment.getPaymentStatus()).append('|')
+                .append(payment.getLastPaymentDate()).append('|')
+                .append(payment.isValid()).append('|')
+                .append(payment.getDaysRemaining()).append('|')
+                .append(mandateStatus).append('|')
+                .append(unreadCount);
+        for (Notification notification : notifications) {
+            source.append('|').append(notification.getNotificationId())
+                    .append(':').append(notification.getIsRead());
+        }
+        return DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 대시보드 정보 클래스
+     */
+    public static class DashboardView {
+        private final PaymentService.PaymentStatusInfo payment;
+        private final String mandateStatus;
+        private final int unreadCount;
+        private final List<Notification> notifications;
+        private final String etag;
+
+        public DashboardView(PaymentService.PaymentStatusInfo payment, String mandateStatus,
+                             int unreadCount, List<Notification> notifications) {
+            this.payment = payment;
+            this.mandateStatus = mandateStatus;
+            this.unreadCount = unreadCount;
+            this.notifications = notifications;
+            this.etag = computeEtag(payment, mandateStatus, unreadCount, notifications);
+        }
+
+        public PaymentService.PaymentStatusInfo getPayment() {
+            return payment;
+        }
+
+        public String getMandateStatus() {
+            return mandateStatus;
+        }
+
+        public int getUnreadCount() {
+            return unreadCount;
+        }
+
+        public List<Notification> getNotifications() {
+            return notifications;
+        }
+
+        @JsonIgnore
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
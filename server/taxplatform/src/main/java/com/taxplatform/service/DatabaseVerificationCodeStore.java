@@ -0,0 +1,68 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.PhoneVerification;
+import com.taxplatform.mapper.PhoneVerificationMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB(phone_verifications) 기반 인증번호 저장소
+ * 여러 서버가 같은 인증번호와 발송 제한 기록을 공유한다.
+ * 번호별 행을 SELECT ... FOR UPDATE 로 잠근 뒤 VerificationPolicy로 상태를 바꾸고 저장한다.
+ */
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "database")
+public class DatabaseVerificationCodeStore implements VerificationCodeStore {
+
+    private final PhoneVerificationMapper phoneVerificationMapper;
+    private final int purgeBatchSize;
+
+    public DatabaseVerificationCodeStore(PhoneVerificationMapper phoneVerificationMapper,
+                                         @Value("${verification.purge-batch-size:1000}") int purgeBatchSize) {
+        this.phoneVerificationMapper = phoneVerificationMapper;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    @Transactional
+    public IssueResult issue(String phoneNumber, String code, VerificationPolicy policy, LocalDateTime now) {
+        phoneVerificationMapper.insertIfAbsent(phoneNumber);
+        PhoneVerification state = phoneVerificationMapper.findForUpdate(phoneNumber);
+
+        IssueResult result = policy.issue(state, code, now);
+        phoneVerificationMapper.updateVerification(state);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public VerifyResult verify(String phoneNumber, String code, VerificationPolicy policy, LocalDateTime now) {
+        PhoneVerification state = phoneVerificationMapper.findForUpdate(phoneNumber);
+        if (state == null) {
+            return VerifyResult.EXPIRED;
+        }
+
+        VerifyResult result = policy.verify(state, code, now);
+        phoneVerificationMapper.updateVerification(state);
+        return result;
+    }
+
+    /**
+     * 만료 행을 purgeBatchSize 건씩 나누어 삭제 (배치마다 바로 커밋하여 잠금 시간 최소화)
+     */
+    @Override
+    public int purgeExpired(VerificationPolicy policy, LocalDateTime now) {
+        LocalDateTime windowCutoff = policy.windowCutoff(now);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = phoneVerificationMapper.deleteExpired(now, windowCutoff, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        return total;
+    }
+}
@@ -0,0 +1,59 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.PhoneVerification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 인증번호 저장소 (단일 노드용, 기본값)
+ * 번호별 상태는 ConcurrentHashMap.compute 안에서만 변경되며, 저장 건수는 maxEntries로 제한된다.
+ */
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryVerificationCodeStore.class);
+
+    private final Map<String, PhoneVerification> states = new ConcurrentHashMap<>();
+
+    @Override
+    public IssueResult issue(String phoneNumber, String code, VerificationPolicy policy, LocalDateTime now) {
+        if (!states.containsKey(phoneNumber) && states.size() >= policy.maxEntries()) {
+            log.warn(">>> 인증번호 저장소 한도 초과: size={}", states.size());
+            return IssueResult.CAPACITY_EXCEEDED;
+        }
+
+        IssueResult[] result = new IssueResult[1];
+        states.compute(phoneNumber, (key, state) -> {
+            PhoneVerification target = state == null ? new PhoneVerification(key) : state;
+            result[0] = policy.issue(target, code, now);
+            return target;
+        });
+        return result[0];
+    }
+
+    @Override
+    public VerifyResult verify(String phoneNumber, String code, VerificationPolicy policy, LocalDateTime now) {
+        VerifyResult[] result = {VerifyResult.EXPIRED};
+        states.computeIfPresent(phoneNumber, (key, state) -> {
+            result[0] = policy.verify(state, code, now);
+            return state;
+        });
+        return result[0];
+    }
+
+    @Override
+    public int purgeExpired(VerificationPolicy policy, LocalDateTime now) {
+        int before = states.size();
+        for (String phoneNumber : states.keySet()) {
+            states.computeIfPresent(phoneNumber, (key, state) -> policy.isPurgeable(state, now) ? null : state);
+        }
+        return Math.max(before - states.size(), 0);
+    }
+}
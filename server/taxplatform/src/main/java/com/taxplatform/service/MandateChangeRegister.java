@@ -0,0 +1,74 @@
+package com.taxplatform.service;
+
+import com.taxplatform.mapper.MandateEventMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개된 수임 동의 변경 순번 (메모리)
+ * 변경 순번은 mandate_change_seq 행을 전이 트랜잭션 안에서 증가시켜 받으므로 발급 순서와 커밋 순서가 같다.
+ * 그래서 DB에 커밋된 순번을 그대로 "since=N 이후 변경" 조회 기준(워터마크)으로 공개해도
+ * 아직 커밋되지 않은 더 작은 순번을 건너뛰는 일이 없다.
+ *
+ * - 다른 노드의 전이: refresh-millis마다 커밋된 순번을 읽어 반영
+ * - 이 노드의 전이: 커밋 직후 바로 반영
+ */
+@Component
+public class MandateChangeRegister {
+
+    private static final Logger log = LoggerFactory.getLogger(MandateChangeRegister.class);
+
+    private final MandateEventMapper mandateEventMapper;
+    private final AtomicLong latestVersion = new AtomicLong();
+
+    public MandateChangeRegister(MandateEventMapper mandateEventMapper) {
+        this.mandateEventMapper = mandateEventMapper;
+    }
+
+    /**
+     * 공개된 변경 순번 조회
+     * @return 이 순번 이하의 전이는 모두 커밋된 것으로 확인된 순번
+     */
+    public long getLatestVersion() {
+        return latestVersion.get();
+    }
+
+    /**
+     * 전이에서 받은 변경 순번을 트랜잭션 커밋 뒤에 공개 (롤백되면 공개하지 않음)
+     * @param version 전이에서 발급된 변경 순번
+     */
+    public void publishAfterCommit(long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                latestVersion.accumulateAndGet(version, Math::max);
+            }
+        });
+    }
+
+    /**
+     * DB에 커밋된 변경 순번을 읽어 워터마크 갱신 (트랜잭션 밖에서 호출)
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${mandate.changes.refresh-millis:1000}")
+    public void refresh() {
+        try {
+            Long committed = mandateEventMapper.findChangeVersion();
+            if (committed != null) {
+                latestVersion.accumulateAndGet(committed, Math::max);
+            }
+        } catch (RuntimeException e) {
+            log.warn(">>> 수임 동의 변경 순번 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
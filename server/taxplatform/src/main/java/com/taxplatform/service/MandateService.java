@@ -1,50 +1,74 @@
 package com.taxplatform.service;
 
-import com.taxplatform.domain.User;
+import com.taxplatform.domain.MandateListItem;
+import com.taxplatform.domain.NotificationOutboxEvent;
+import com.taxplatform.domain.UserStatusView;
 import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.service.MandateStateMachine.Action;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 수임 동의 관련 비즈니스 로직을 처리하는 서비스
+ * 상태 변경은 MandateStateMachine이 처리하며, 전이에 실패하면 알람을 보내지 않고 실패로 응답한다.
  */
 @Service
 public class MandateService {
     
+    // 목록 조회 순서 (신청됨 → 요청 전송됨 → 완료)
+    private static final List<String> LIST_STATUSES = List.of("REQUESTED", "SENT", "COMPLETED");
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
     @Autowired
     private UserMapper userMapper;
     
     @Autowired
-    private NotificationService notificationService;
+    private UserCache userCache;
+    
+    @Autowired
+    private NotificationOutboxService notificationOutboxService;
+    
+    @Autowired
+    private MandateStateMachine mandateStateMachine;
+    
+    @Autowired
+    private MandateChangeRegister mandateChangeRegister;
+    
+    @Autowired
+    private MandateWorkQueue mandateWorkQueue;
     
     /**
      * 회원이 수임 동의 신청
      * @param userId 회원 사용자 ID
      * @return 처리 결과 메시지
      */
+    @Transactional
     public String requestMandate(Long userId) {
-        User user = userMapper.findById(userId);
+        // 알람 문구에 쓸 이름만 캐시에서 확인 (이름은 상태 전이와 무관)
+        UserStatusView user = userCache.findStatusById(userId);
         if (user == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
         
-        // 수임 동의 상태 업데이트
-        user.setMandateStatus("REQUESTED");
-        int result = userMapper.updateMandateStatus(user);
+        // 수임 동의 상태 전이 (NONE → REQUESTED)
+        mandateStateMachine.transition(userId, userId, Action.REQUEST);
         
-        if (result > 0) {
-            // 모든 세무사에게 알람 전송
-            List<User> taxAccountants = userMapper.findAllTaxAccountants();
-            for (User taxAccountant : taxAccountants) {
-                String message = user.getName() + "님이 수임 동의를 신청했습니다.";
-                notificationService.createNotification(taxAccountant.getUserId(), userId, "CLIENT_TO_TAX", message);
-            }
-            return "수임 동의 신청이 완료되었습니다.";
-        } else {
-            throw new RuntimeException("수임 동의 신청에 실패했습니다.");
-        }
+        // 모든 세무사에게 알람 전송 (상태 변경과 같은 트랜잭션에 이벤트만 기록, 전개는 디스패처가 처리)
+        String message = user.getName() + "님이 수임 동의를 신청했습니다.";
+        notificationOutboxService.enqueue(
+                NotificationOutboxEvent.toRole("TAX_ACCOUNTANT", userId, "CLIENT_TO_TAX", message));
+        return "수임 동의 신청이 완료되었습니다.";
     }
     
     /**
@@ -53,30 +77,19 @@ public class MandateService {
      * @param clientId 회원 사용자 ID
      * @return 처리 결과 메시지
      */
+    @Transactional
     public String sendMandateRequest(Long taxAccountantId, Long clientId) {
-        User taxAccountant = userMapper.findById(taxAccountantId);
-        User client = userMapper.findById(clientId);
-
-        if (taxAccountant == null || client == null) {
-            throw new RuntimeException("사용자를 찾을 수 없습니다.");
-        }
+        requireTaxAccountant(taxAccountantId, "세무사만 수임 동의 요청을 보낼 수 있습니다.");
+        mandateWorkQueue.checkClaim(clientId, taxAccountantId);
 
-        if (!"TAX_ACCOUNTANT".equals(taxAccountant.getRole())) {
-            throw new RuntimeException("세무사만 수임 동의 요청을 보낼 수 있습니다.");
-        }
+        // 수임 동의 상태 전이 (REQUESTED → SENT)
+        mandateStateMachine.transition(clientId, taxAccountantId, Action.SEND);
 
-        // 수임 동의 상태 업데이트
-        client.setMandateStatus("SENT");
-        int result = userMapper.updateMandateStatus(client);
-
-        if (result > 0) {
-            // 회원에게 알람 전송
-            String message = "세무사가 수임 동의 요청을 보냈습니다. 홈택스에서 수임 동의 요청을 수락해주세요.";
-            notificationService.createNotification(clientId, taxAccountantId, "TAX_TO_CLIENT", message);
-            return "수임 동의 요청이 전송되었습니다.";
-        } else {
-            throw new RuntimeException("수임 동의 요청 전송에 실패했습니다.");
-        }
+        // 회원에게 알람 전송
+        String message = "세무사가 수임 동의 요청을 보냈습니다. 홈택스에서 수임 동의 요청을 수락해주세요.";
+        notificationOutboxService.enqueue(
+                NotificationOutboxEvent.toUser(clientId, taxAccountantId, "TAX_TO_CLIENT", message));
+        return "수임 동의 요청이 전송되었습니다.";
     }
 
     /**
@@ -85,62 +98,261 @@ public class MandateService {
      * @param clientId 회원 사용자 ID
      * @return 처리 결과 메시지
      */
+    @Transactional
     public String sendMandateReleaseRequest(Long taxAccountantId, Long clientId) {
-        User taxAccountant = userMapper.findById(taxAccountantId);
-        User client = userMapper.findById(clientId);
+        requireTaxAccountant(taxAccountantId, "세무사만 수임 해제 요청을 보낼 수 있습니다.");
+        mandateWorkQueue.checkClaim(clientId, taxAccountantId);
 
-        if (taxAccountant == null || client == null) {
-            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        // 수임 동의 상태를 NONE으로 리셋 (REQUESTED/SENT → NONE)
+        mandateStateMachine.transition(clientId, taxAccountantId, Action.RELEASE);
+
+        // 회원에게 수임 해제 요청 알람 전송
+        String message = "세무사가 기존 세무사와의 수임 관계 해제를 요청했습니다. 홈택스에서 기존 세무사와의 수임 관계를 해제한 후 다시 수임 동의 신청을 진행해주세요.";
+        notificationOutboxService.enqueue(
+                NotificationOutboxEvent.toUser(clientId, taxAccountantId, "TAX_TO_CLIENT", message));
+
+        return "수임 해제 요청이 전송되었습니다.";
+    }
+    
+    /**
+     * 회원이 홈택스에서 수임 동의 수락 완료
+     * @param userId 회원 사용자 ID
+     * @return 처리 결과 메시지
+     */
+    public String completeMandate(Long userId) {
+        // 수임 동의 상태 전이 (SENT → COMPLETED)
+        mandateStateMachine.transition(userId, userId, Action.COMPLETE);
+        return "수임 동의가 완료되었습니다.";
+    }
+    
+    /**
+     * 세무사에게 처리할 수임 동의 신청 배정 (이미 가진 배정은 연장)
+     * @param taxAccountantId 세무사 사용자 ID
+     * @param limit 가지고 있을 최대 배정 수 (생략 가능)
+     * @return 배정 결과
+     */
+    public MandateWorkQueue.ClaimResult claimMandateRequests(Long taxAccountantId, Integer limit) {
+        requireTaxAccountant(taxAccountantId, "세무사만 수임 동의 신청을 배정받을 수 있습니다.");
+        return mandateWorkQueue.claim(taxAccountantId, limit);
+    }
+    
+    /**
+     * 배정받은 수임 동의 신청 반납
+     * @param taxAccountantId 세무사 사용자 ID
+     * @param clientId 회원 사용자 ID
+     * @return 처리 결과 메시지
+     */
+    public String releaseMandateClaim(Long taxAccountantId, Long clientId) {
+        mandateWorkQueue.release(clientId, taxAccountantId);
+        return "배정이 반납되었습니다.";
+    }
+    
+    /**
+     * 수임 동의 목록 조회 (세무사용, keyset 페이지네이션)
+     * 전체 조회는 REQUESTED → SENT → COMPLETED 순으로 상태별 인덱스 구간을 이어서 읽으며,
+     * 각 상태 안에서는 최근 변경 순으로 정렬된다.
+     * @param status 상태 필터 (REQUESTED, SENT, COMPLETED, 생략 또는 ALL이면 전체)
+     * @param from 이 날짜 이후 변경된 회원만 (생략 가능)
+     * @param to 이 날짜까지 변경된 회원만 (생략 가능)
+     * @param cursor 이전 페이지의 nextCursor (생략 시 첫 페이지)
+     * @param limit 페이지 크기 (생략 시 20, 최대 100)
+     * @return 수임 동의 목록 페이지 (첫 페이지에만 상태별 건수와 변경 순번 포함)
+     * @throws IllegalArgumentException 상태나 커서가 올바르지 않은 경우
+     */
+    public MandateListPage getMandateList(String status, LocalDate from, LocalDate to, String cursor, Integer limit) {
+        List<String> statuses;
+        if (status == null || status.isEmpty() || "ALL".equals(status)) {
+            statuses = LIST_STATUSES;
+        } else if (LIST_STATUSES.contains(status)) {
+            statuses = List.of(status);
+        } else {
+            throw new IllegalArgumentException("올바른 상태를 선택해주세요.");
         }
 
-        if (!"TAX_ACCOUNTANT".equals(taxAccountant.getRole())) {
-            throw new RuntimeException("세무사만 수임 해제 요청을 보낼 수 있습니다.");
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        LocalDateTime fromTime = from == null ? null : from.atStartOfDay();
+        LocalDateTime toTime = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        // 커서가 가리키는 상태부터 이어서 조회
+        ListCursor position = cursor == null || cursor.isEmpty() ? null : ListCursor.decode(cursor);
+        
+        // 목록 조회 전에 순번을 읽어 두어야 조회 도중 바뀐 항목이 다음 변경분 조회에 포함된다
+        Long version = position == null ? mandateChangeRegister.getLatestVersion() : null;
+        int startIndex = position == null ? 0 : statuses.indexOf(position.status);
+        if (startIndex < 0) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
         }
 
-        // 수임 동의 상태를 NONE으로 리셋
-        client.setMandateStatus("NONE");
-        int result = userMapper.updateMandateStatus(client);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<MandateListItem> items = new ArrayList<>(pageSize + 1);
+        for (int i = startIndex; i < statuses.size() && items.size() <= pageSize; i++) {
+            boolean resume = position != null && i == startIndex;
+            items.addAll(userMapper.findMandateListPage(statuses.get(i), fromTime, toTime,
+                    resume ? position.updatedAt : null, resume ? position.userId : null,
+                    pageSize + 1 - items.size()));
+        }
 
-        if (result > 0) {
-            // 회원에게 수임 해제 요청 알람 전송
-            String message = "세무사가 기존 세무사와의 수임 관계 해제를 요청했습니다. 홈택스에서 기존 세무사와의 수임 관계를 해제한 후 다시 수임 동의 신청을 진행해주세요.";
-            notificationService.createNotification(clientId, taxAccountantId, "TAX_TO_CLIENT", message);
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            nextCursor = ListCursor.encode(items.get(pageSize - 1));
+        }
 
-            return "수임 해제 요청이 전송되었습니다.";
-        } else {
-            throw new RuntimeException("수임 해제 요청 처리에 실패했습니다.");
+        Map<String, Long> counts = null;
+        if (position == null) {
+            counts = new LinkedHashMap<>();
+            for (String listStatus : LIST_STATUSES) {
+                counts.put(listStatus, 0L);
+            }
+            for (Map<String, Object> row : userMapper.countMandateRequestsByStatus(fromTime, toTime)) {
+                counts.put((String) row.get("status"), ((Number) row.get("total")).longValue());
+            }
         }
+
+        return new MandateListPage(items, nextCursor, counts, version);
     }
     
     /**
-     * 회원이 홈택스에서 수임 동의 수락 완료
-     * @param userId 회원 사용자 ID
-     * @return 처리 결과 메시지
+     * since 이후 수임 동의 상태가 바뀐 회원 조회 (세무사 목록 변경분 동기화)
+     * since가 최신 변경 순번 이상이면 DB를 조회하지 않고 null을 반환한다.
+     * 결과에는 NONE으로 돌아간 회원도 포함되므로 화면에서 목록에서 제거해야 한다.
+     * @param since 마지막으로 받은 변경 순번 (목록 첫 페이지 또는 이전 변경분 응답의 version)
+     * @param limit 최대 조회 개수 (생략 시 100, 최대 100)
+     * @return 변경분 (변경이 없으면 null)
      */
-    public String completeMandate(Long userId) {
-        User user = userMapper.findById(userId);
-        if (user == null) {
+    public MandateChanges getMandateChanges(long since, Integer limit) {
+        // 공개된 순번까지만 읽어야 아직 커밋되지 않은 더 작은 순번을 건너뛰지 않는다
+        long until = mandateChangeRegister.getLatestVersion();
+        if (since >= until) {
+            return null;
+        }
+        
+        int pageSize = limit == null || limit <= 0 ? MAX_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        List<MandateListItem> items = userMapper.findMandateChanges(since, until, pageSize + 1);
+        boolean hasMore = items.size() > pageSize;
+        if (hasMore) {
+            items = items.subList(0, pageSize);
+            return new MandateChanges(items, items.get(items.size() - 1).getChangeVersion(), true);
+        }
+        // 세무사 화면과 관계없는 변경이나 그 뒤 다시 바뀐 회원이 있어도 공개 순번까지 따라잡음
+        return new MandateChanges(items, until, false);
+    }
+    
+    private void requireTaxAccountant(Long taxAccountantId, String message) {
+        UserStatusView taxAccountant = userCache.findStatusById(taxAccountantId);
+        if (taxAccountant == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
+        if (!"TAX_ACCOUNTANT".equals(taxAccountant.getRole())) {
+            throw new RuntimeException(message);
+        }
+    }
+    
+    /**
+     * 수임 동의 목록 페이지
+     */
+    public static class MandateListPage {
+        private final List<MandateListItem> items;
+        private final String nextCursor;
+        private final Map<String, Long> counts;
+        private final Long version;
         
-        // 수임 동의 상태 업데이트
-        user.setMandateStatus("COMPLETED");
-        int result = userMapper.updateMandateStatus(user);
+        public MandateListPage(List<MandateListItem> items, String nextCursor, Map<String, Long> counts, Long version) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+            this.counts = counts;
+            this.version = version;
+        }
         
-        if (result > 0) {
-            return "수임 동의가 완료되었습니다.";
-        } else {
-            throw new RuntimeException("수임 동의 완료 처리에 실패했습니다.");
+        public List<MandateListItem> getItems() {
+            return items;
+        }
+        
+        /**
+         * 다음 페이지 커서 (마지막 페이지면 null)
+         */
+        public String getNextCursor() {
+            return nextCursor;
+        }
+        
+        /**
+         * 상태별 건수 (첫 페이지에만 포함, 이후 페이지는 null)
+         */
+        public Map<String, Long> getCounts() {
+            return counts;
+        }
+        
+        /**
+         * 목록 기준 변경 순번 (첫 페이지에만 포함, 변경분 조회의 since로 사용)
+         */
+        public Long getVersion() {
+            return version;
         }
     }
     
     /**
-     * 모든 수임 동의 내역 조회 (세무사용)
-     * @return 수임 동의 신청한 모든 회원 리스트
+     * 수임 동의 목록 변경분
      */
-    public List<User> getAllMandateRequests() {
-        // REQUESTED, SENT, COMPLETED 상태인 모든 회원 조회
-        return userMapper.findAllMandateRequests();
+    public static class MandateChanges {
+        private final List<MandateListItem> items;
+        private final long version;
+        private final boolean hasMore;
+        
+        public MandateChanges(List<MandateListItem> items, long version, boolean hasMore) {
+            this.items = items;
+            this.version = version;
+            this.hasMore = hasMore;
+        }
+        
+        /**
+         * 상태가 바뀐 회원 (mandateStatus가 NONE이면 목록에서 제거)
+         */
+        public List<MandateListItem> getItems() {
+            return items;
+        }
+        
+        /**
+         * 다음 변경분 조회에 사용할 since
+         */
+        public long getVersion() {
+            return version;
+        }
+        
+        /**
+         * 한 번에 다 받지 못한 변경분이 남아 있으면 true
+         */
+        public boolean isHasMore() {
+            return hasMore;
+        }
+    }
+    
+    /**
+     * 목록 커서 (상태, 변경 시각, 사용자 ID)를 URL에 안전한 문자열로 변환
+     */
+    private static class ListCursor {
+        private final String status;
+        private final LocalDateTime updatedAt;
+        private final Long userId;
+        
+        ListCursor(String status, LocalDateTime updatedAt, Long userId) {
+            this.status = status;
+            this.updatedAt = updatedAt;
+            this.userId = userId;
+        }
+        
+        static String encode(MandateListItem item) {
+            String raw = item.getMandateStatus() + "," + item.getUpdatedAt() + "," + item.getUserId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static ListCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split(",", 3);
+                return new ListCursor(parts[0], LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            }
+        }
     }
 }
-
@@ -0,0 +1,118 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.MandateEvent;
+import com.taxplatform.domain.MandateState;
+import com.taxplatform.exception.MandateTransitionException;
+import com.taxplatform.mapper.MandateEventMapper;
+import com.taxplatform.mapper.UserMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+/**
+ * 수임 동의 상태 머신
+ * 허용된 전이만 수행하며, users.mandate_version을 조건으로 거는 UPDATE(낙관적 잠금)로
+ * 같은 회원에 대한 동시 요청 중 정확히 하나만 성공시킨다.
+ * 성공한 전이는 같은 트랜잭션에서 mandate_events에 이력으로 남긴다.
+ * 전체 변경 순번은 mandate_change_seq 행을 증가시켜 받고 상태와 같은 UPDATE에서 회원 행에 기록하므로
+ * "since=N 이후 변경" 조회가 가능하다. 순번 행 잠금은 커밋까지 유지되므로 전이는 커밋 순서대로 순번을 받는다.
+ * REQUESTED 회원은 작업 대기열(mandate_claims)에도 같은 트랜잭션에서 추가/제거한다.
+ *
+ * NONE → REQUESTED (REQUEST, 회원) → SENT (SEND, 세무사) → COMPLETED (COMPLETE, 회원)
+ * REQUESTED/SENT → NONE (RELEASE, 세무사)
+ */
+@Component
+public class MandateStateMachine {
+
+    /**
+     * 수임 동의 상태 전이
+     */
+    public enum Action {
+        REQUEST(Set.of("NONE"), "REQUESTED", "이미 수임 동의를 신청했거나 진행 중입니다."),
+        SEND(Set.of("REQUESTED"), "SENT", "수임 동의를 신청한 회원에게만 요청을 보낼 수 있습니다."),
+        RELEASE(Set.of("REQUESTED", "SENT"), "NONE", "진행 중인 수임 동의가 없습니다."),
+        COMPLETE(Set.of("SENT"), "COMPLETED", "세무사의 수임 동의 요청을 받은 뒤에 완료할 수 있습니다.");
+
+        private final Set<String> fromStatuses;
+        private final String toStatus;
+        private final String rejectMessage;
+
+        Action(Set<String> fromStatuses, String toStatus, String rejectMessage) {
+            this.fromStatuses = fromStatuses;
+            this.toStatus = toStatus;
+            this.rejectMessage = rejectMessage;
+        }
+
+        public boolean isAllowedFrom(String status) {
+            return fromStatuses.contains(status);
+        }
+
+        public String getToStatus() {
+            return toStatus;
+        }
+    }
+
+    private final UserMapper userMapper;
+    private final MandateEventMapper mandateEventMapper;
+    private final UserCache userCache;
+    private final MandateChangeRegister mandateChangeRegister;
+    private final MandateWorkQueue mandateWorkQueue;
+
+    public MandateStateMachine(UserMapper userMapper,
+                               MandateEventMapper mandateEventMapper,
+                               UserCache userCache,
+                               MandateChangeRegister mandateChangeRegister,
+                               MandateWorkQueue mandateWorkQueue) {
+        this.userMapper = userMapper;
+        this.mandateEventMapper = mandateEventMapper;
+        this.userCache = userCache;
+        this.mandateChangeRegister = mandateChangeRegister;
+        this.mandateWorkQueue = mandateWorkQueue;
+    }
+
+    /**
+     * 수임 동의 상태 전이 실행 (호출한 쪽 트랜잭션에 참여)
+     * @param userId 상태를 바꿀 회원 사용자 ID
+     * @param actorId 전이를 요청한 사용자 ID
+     * @param action 전이
+     * @return 기록된 변경 이력
+     * @throws MandateTransitionException 사용자가 없거나, 현재 상태에서 허용되지 않거나, 동시 요청에서 밀린 경우
+     */
+    @Transactional
+    public MandateEvent transition(Long userId, Long actorId, Action action) {
+        MandateState state = userId == null ? null : userMapper.findMandateState(userId);
+        if (state == null) {
+            throw new MandateTransitionException("사용자를 찾을 수 없습니다.");
+        }
+        if (!action.isAllowedFrom(state.getMandateStatus())) {
+            throw new MandateTransitionException(action.rejectMessage);
+        }
+
+        // 변경 순번 발급 (다른 전이는 이 트랜잭션이 끝날 때까지 대기하므로 순번 순서 = 커밋 순서)
+        mandateEventMapper.incrementChangeVersion();
+        Long changeVersion = mandateEventMapper.findChangeVersion();
+
+        // 상태, 버전, 변경 순번, 변경 시각을 한 번의 UPDATE로 (조회 이후 다른 요청이 먼저 전이했으면 0건)
+        int updated = userMapper.compareAndSetMandateStatus(userId, state.getMandateVersion(),
+                action.getToStatus(), changeVersion);
+        if (updated == 0) {
+            throw new MandateTransitionException("다른 요청이 먼저 처리되었습니다. 새로고침 후 다시 시도해주세요.");
+        }
+        userCache.evict(userId);
+
+        MandateEvent event = new MandateEvent(userId, actorId, action.name(),
+                state.getMandateStatus(), action.getToStatus(), state.getMandateVersion() + 1, changeVersion);
+        mandateEventMapper.insertEvent(event);
+        mandateChangeRegister.publishAfterCommit(changeVersion);
+
+        // 작업 대기열 반영 (REQUESTED 회원만 대기열에 존재)
+        if ("REQUESTED".equals(action.getToStatus())) {
+            mandateWorkQueue.enqueue(userId);
+        } else if ("REQUESTED".equals(state.getMandateStatus())) {
+            mandateWorkQueue.remove(userId);
+        }
+
+        return event;
+    }
+}
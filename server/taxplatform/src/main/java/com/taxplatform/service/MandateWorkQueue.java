@@ -0,0 +1,127 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.MandateListItem;
+import com.taxplatform.exception.MandateTransitionException;
+import com.taxplatform.mapper.MandateClaimMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 수임 동의 작업 대기열 (세무사별 배정/임대)
+ * REQUESTED 회원을 세무사에게 묶음으로 배정하고 lease-seconds 동안 다른 세무사가 가져가지 못하게 한다.
+ * 배정은 FOR UPDATE SKIP LOCKED로 잠긴 행을 건너뛰므로 세무사가 늘어도 같은 행을 두고 대기하지 않는다.
+ * 배정이 만료되면(세무사가 자리를 비운 경우) 다음 배정 요청 때 다른 세무사에게 넘어간다.
+ */
+@Service
+public class MandateWorkQueue {
+
+    private final MandateClaimMapper mandateClaimMapper;
+    private final long leaseSeconds;
+    private final int batchSize;
+    private final int maxBatchSize;
+
+    public MandateWorkQueue(MandateClaimMapper mandateClaimMapper,
+                            @Value("${mandate.claim.lease-seconds:900}") long leaseSeconds,
+                            @Value("${mandate.claim.batch-size:10}") int batchSize,
+                            @Value("${mandate.claim.max-batch-size:50}") int maxBatchSize) {
+        this.mandateClaimMapper = mandateClaimMapper;
+        this.leaseSeconds = leaseSeconds;
+        this.batchSize = batchSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 세무사 배정 목록 채우기
+     * 이미 가진 배정은 연장하고, 모자란 만큼 미배정(또는 만료된) 회원을 새로 배정한다.
+     * @param taxAccountantId 세무사 사용자 ID
+     * @param limit 가지고 있을 최대 배정 수 (생략 시 batch-size, 최대 max-batch-size)
+     * @return 배정 결과 (배정된 회원 목록과 배정 유지 시간)
+     */
+    @Transactional
+    public ClaimResult claim(Long taxAccountantId, Integer limit) {
+        int target = limit == null || limit <= 0 ? batchSize : Math.min(limit, maxBatchSize);
+
+        int held = mandateClaimMapper.renewClaims(taxAccountantId, leaseSeconds);
+        int wanted = target - held;
+        if (wanted > 0) {
+            List<Long> userIds = mandateClaimMapper.lockClaimableIds(wanted);
+            if (!userIds.isEmpty()) {
+                mandateClaimMapper.claim(userIds, taxAccountantId, leaseSeconds);
+            }
+        }
+
+        return new ClaimResult(mandateClaimMapper.findClaimedItems(taxAccountantId), leaseSeconds);
+    }
+
+    /**
+     * 배정 반납 (다른 세무사가 바로 가져갈 수 있도록)
+     * @param clientId 회원 사용자 ID
+     * @param taxAccountantId 세무사 사용자 ID
+     * @throws IllegalArgumentException 본인에게 배정된 회원이 아닌 경우
+     */
+    public void release(Long clientId, Long taxAccountantId) {
+        if (mandateClaimMapper.releaseClaim(clientId, taxAccountantId) == 0) {
+            throw new IllegalArgumentException("배정받은 회원이 아닙니다.");
+        }
+    }
+
+    /**
+     * 다른 세무사가 처리 중인 회원인지 확인
+     * 미배정이거나 배정이 만료된 회원은 누구나 처리할 수 있다.
+     * @param clientId 회원 사용자 ID
+     * @param taxAccountantId 세무사 사용자 ID
+     * @throws MandateTransitionException 다른 세무사의 배정이 유효한 경우
+     */
+    public void checkClaim(Long clientId, Long taxAccountantId) {
+        Long claimant = mandateClaimMapper.findActiveClaimant(clientId);
+        if (claimant != null && !claimant.equals(taxAccountantId)) {
+            throw new MandateTransitionException("다른 세무사가 처리 중인 회원입니다.");
+        }
+    }
+
+    /**
+     * 대기열에 회원 추가 (REQUESTED 전이와 같은 트랜잭션에서 호출)
+     * @param userId 회원 사용자 ID
+     */
+    public void enqueue(Long userId) {
+        mandateClaimMapper.enqueue(userId);
+    }
+
+    /**
+     * 대기열에서 회원 제거 (REQUESTED를 벗어나는 전이와 같은 트랜잭션에서 호출)
+     * @param userId 회원 사용자 ID
+     */
+    public void remove(Long userId) {
+        mandateClaimMapper.remove(userId);
+    }
+
+    /**
+     * 배정 결과
+     */
+    public static class ClaimResult {
+        private final List<MandateListItem> items;
+        private final long leaseSeconds;
+
+        public ClaimResult(List<MandateListItem> items, long leaseSeconds) {
+            this.items = items;
+            this.leaseSeconds = leaseSeconds;
+        }
+
+        /**
+         * 배정받은 회원 목록 (대기열에 들어온 순)
+         */
+        public List<MandateListItem> getItems() {
+            return items;
+        }
+
+        /**
+         * 배정 유지 시간 (초, 이 안에 다시 claim을 호출하면 연장)
+         */
+        public long getLeaseSeconds() {
+            return leaseSeconds;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.Notification;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알람 실시간 전송(SSE) 허브
+ * 사용자별 구독 연결을 관리하고, 새 알람을 구독 중인 연결로 fan-out 한다.
+ * 연결마다 제한된 크기의 버퍼를 두고, 소수의 전송 스레드가 버퍼를 비우므로
+ * 열린 연결이 Tomcat 요청 스레드를 점유하지 않는다.
+ */
+@Component
+public class NotificationHub {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationHub.class);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    public NotificationHub(@Value("${notification.stream.buffer-size:100}") int bufferSize,
+                           @Value("${notification.stream.timeout-millis:1800000}") long timeoutMillis,
+                           @Value("${notification.stream.dispatcher-threads:2}") int dispatcherThreads) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-sse-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 사용자 알람 스트림 구독
+     * @param userId 사용자 ID
+     * @return 비동기로 유지되는 SSE 연결
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, bufferSize);
+
+        subscribers.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 이벤트를 보내 프록시 버퍼링을 해제하고 연결 성립을 알림
+        try {
+            emitter.send(SseEmitter.event().name("connected").data(userId));
+        } catch (IOException e) {
+            remove(subscriber);
+            emitter.completeWithError(e);
+        }
+
+        log.info(">>> 알람 스트림 구독: userId={}, connections={}", userId, countConnections(userId));
+        return emitter;
+    }
+
+    /**
+     * 구독 중인 사용자에게 알람 전송
+     * 버퍼가 가득 찬 연결은 가장 오래된 알람을 버리고 최신 알람을 유지한다.
+     * @param notification 전송할 알람
+     */
+    public void publish(Notification notification) {
+        Set<Subscriber> targets = subscribers.get(notification.getUserId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        for (Subscriber subscriber : targets) {
+            subscriber.enqueue(notification);
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 사용자별 열린 연결 수 조회
+     * @param userId 사용자 ID
+     * @return 연결 수
+     */
+    public int countConnections(Long userId) {
+        Set<Subscriber> targets = subscribers.get(userId);
+        return targets == null ? 0 : targets.size();
+    }
+
+    /**
+     * 끊어진 연결 정리를 위한 주기적 heartbeat 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-millis:30000}")
+    public void heartbeat() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                dispatcher.execute(() -> {
+                    try {
+                        subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } catch (IOException | IllegalStateException e) {
+                        remove(subscriber);
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Notification notification;
+            while ((notification = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(notification.getNotificationId()))
+                        .name("notification")
+                        .data(notification));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug(">>> 알람 스트림 전송 실패, 연결 제거: userId={}", subscriber.userId);
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // drain 종료와 enqueue 사이에 들어온 알람 처리
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (key, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    /**
+     * 단일 SSE 연결과 전송 대기 버퍼
+     */
+    private static class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Notification> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        Subscriber(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void enqueue(Notification notification) {
+            while (!buffer.offer(notification)) {
+                buffer.poll();
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.NotificationOutboxEvent;
+import com.taxplatform.mapper.NotificationOutboxMapper;
+import com.taxplatform.mapper.UserMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알람 outbox 서비스
+ * 업무 트랜잭션은 outbox 이벤트 한 행만 기록하고 바로 응답하며,
+ * 전용 디스패처 스레드가 커밋된 이벤트를 수신자별 알람으로 일괄 전개한다.
+ * 이벤트 하나는 하나의 트랜잭션에서 (잠금 → 알람 생성 → 완료 표시) 처리되고,
+ * notifications(source_event_id, user_id) 유니크 키로 중복 생성을 막는다.
+ */
+@Service
+public class NotificationOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxService.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxMapper outboxMapper;
+    private final UserMapper userMapper;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService dispatcher;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.retry-base-seconds:5}")
+    private long retryBaseSeconds;
+
+    public NotificationOutboxService(NotificationOutboxMapper outboxMapper,
+                                     UserMapper userMapper,
+                                     NotificationService notificationService,
+                                     PlatformTransactionManager transactionManager) {
+        this.outboxMapper = outboxMapper;
+        this.userMapper = userMapper;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 알람 이벤트 기록
+     * 호출한 트랜잭션과 함께 커밋되며, 커밋 직후 디스패처를 깨운다.
+     * @param event 기록할 이벤트
+     */
+    public void enqueue(NotificationOutboxEvent event) {
+        if (outboxMapper.insertEvent(event) == 0) {
+            throw new RuntimeException("알람 이벤트 기록에 실패했습니다.");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 디스패처 실행 예약 (이미 예약되어 있으면 무시)
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                wakeUpPending.set(false);
+                dispatchPending();
+            });
+        }
+    }
+
+    /**
+     * 재시도 대기 이벤트와 누락된 이벤트를 위한 주기적 실행
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-millis:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    private void dispatchPending() {
+        try {
+            List<Long> eventIds;
+            int processed;
+            do {
+                eventIds = outboxMapper.findDispatchableIds(batchSize);
+                processed = 0;
+                for (Long eventId : eventIds) {
+                    if (dispatch(eventId)) {
+                        processed++;
+                    }
+                }
+            } while (eventIds.size() == batchSize && processed > 0);
+        } catch (RuntimeException e) {
+            log.error(">>> 알람 outbox 조회 실패", e);
+        }
+    }
+
+    /**
+     * 이벤트 하나를 수신자별 알람으로 전개
+     * @param eventId 이벤트 ID
+     * @return 이번 실행에서 처리(완료 또는 재시도 예약)했으면 true
+     */
+    private boolean dispatch(Long eventId) {
+        try {
+            Boolean done = transactionTemplate.execute(status -> {
+                NotificationOutboxEvent event = outboxMapper.lockPendingById(eventId);
+                if (event == null) {
+                    // 다른 노드가 처리 중이거나 이미 처리됨
+                    return false;
+                }
+
+                List<Long> recipientIds = resolveRecipients(event);
+                notificationService.createNotifications(recipientIds, event.getSenderId(),
+                        event.getType(), event.getMessage(), event.getEventId());
+                outboxMapper.markDone(eventId);
+                return true;
+            });
+            return Boolean.TRUE.equals(done);
+        } catch (DuplicateKeyException e) {
+            // 이전 실행에서 이미 알람이 생성됨 (완료 표시만 누락)
+            log.warn(">>> 알람 outbox 중복 처리 감지, 완료 처리: eventId={}", eventId);
+            transactionTemplate.executeWithoutResult(status -> outboxMapper.markDone(eventId));
+            return true;
+        } catch (RuntimeException e) {
+            log.error(">>> 알람 outbox 처리 실패: eventId={}", eventId, e);
+            String error = String.valueOf(e.getMessage());
+            String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxMapper.markRetry(eventId, lastError, retryBaseSeconds, maxAttempts));
+            return true;
+        }
+    }
+
+    private List<Long> resolveRecipients(NotificationOutboxEvent event) {
+        if (event.getRecipientId() != null) {
+            return List.of(event.getRecipientId());
+        }
+        return userMapper.findUserIdsByRole(event.getRecipientRole());
+    }
+}
@@ -0,0 +1,136 @@
+package com.taxplatform.service;
+
+import com.taxplatform.mapper.NotificationArchiveMapper;
+import com.taxplatform.mapper.NotificationMapper;
+import com.taxplatform.mapper.NotificationOutboxMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알람 보관 기간 관리 서비스
+ * 보관 기간이 지난 읽은 알람을 notifications_archive로 옮겨 notifications 테이블을 작게 유지한다.
+ * 처리 완료(DONE)된 outbox 이벤트도 보관 기간이 지나면 삭제하여 notification_outbox가 계속 커지지 않게 한다.
+ * 한 번에 chunk-size 건씩 별도 트랜잭션으로 처리하여 잠금 시간과 undo 로그를 제한한다.
+ */
+@Service
+public class NotificationRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionService.class);
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationArchiveMapper archiveMapper;
+    private final NotificationOutboxMapper outboxMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.retention.read-retention-days:90}")
+    private int readRetentionDays;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notification.retention.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${notification.outbox.done-retention-days:7}")
+    private int outboxRetentionDays;
+
+    public NotificationRetentionService(NotificationMapper notificationMapper,
+                                        NotificationArchiveMapper archiveMapper,
+                                        NotificationOutboxMapper outboxMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.notificationMapper = notificationMapper;
+        this.archiveMapper = archiveMapper;
+        this.outboxMapper = outboxMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 보관 기간이 지난 읽은 알람 아카이브
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(readRetentionDays);
+        int archived = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int moved = archiveChunk(cutoff);
+            archived += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+        }
+
+        log.info(">>> 알람 아카이브 완료: cutoff={}, archived={}", cutoff, archived);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 outbox 이벤트 삭제
+     * (알람 중복 생성 방지는 notifications의 uk_source_event_user가 담당하므로 완료 이벤트는 남길 필요 없음)
+     */
+    @Scheduled(cron = "${notification.outbox.purge-cron:0 0 3 * * *}")
+    public void purgeProcessedOutbox() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(outboxRetentionDays);
+        int purged = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int deleted = purgeOutboxChunk(cutoff);
+            purged += deleted;
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+
+        log.info(">>> 완료 outbox 이벤트 삭제 완료: cutoff={}, purged={}", cutoff, purged);
+    }
+
+    /**
+     * 알람 한 묶음을 아카이브로 이동
+     * @param cutoff 이 시각 이전에 생성된 알람
+     * @return 이동한 알람 수
+     */
+    private int archiveChunk(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> notificationIds = notificationMapper.findArchivableIds(cutoff, chunkSize);
+            if (notificationIds.isEmpty()) {
+                return 0;
+            }
+
+            archiveMapper.copyFromNotifications(notificationIds);
+            return notificationMapper.deleteByIds(notificationIds);
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    /**
+     * 완료 outbox 이벤트 한 묶음 삭제
+     * @param cutoff 이 시각 이전에 처리 완료된 이벤트
+     * @return 삭제한 이벤트 수
+     */
+    private int purgeOutboxChunk(LocalDateTime cutoff) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> eventIds = outboxMapper.findPurgeableIds(cutoff, chunkSize);
+            if (eventIds.isEmpty()) {
+                return 0;
+            }
+            return outboxMapper.deleteByIds(eventIds);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -4,8 +4,14 @@ import com.taxplatform.domain.Notification;
 import com.taxplatform.mapper.NotificationMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 알람 관련 비즈니스 로직을 처리하는 서비스
@@ -13,9 +19,19 @@ import java.util.List;
 @Service
 public class NotificationService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int INSERT_BATCH_SIZE = 500;
+    
     @Autowired
     private NotificationMapper notificationMapper;
     
+    @Autowired
+    private NotificationHub notificationHub;
+    
+    @Autowired
+    private NotificationUnreadCountService unreadCountService;
+    
     /**
      * 알람 생성
      * @param userId 알람 받을 사용자 ID
@@ -24,11 +40,15 @@ public class NotificationService {
      * @param message 알람 내용
      * @return 생성된 Notification 객체
      */
+    @Transactional
     public Notification createNotification(Long userId, Long senderId, String type, String message) {
         Notification notification = new Notification(userId, senderId, type, message);
+        // 카운터 행을 먼저 잠가 "모두 읽음"과 순서를 맞춤 (잠금 이후 생성된 알람 ID는 읽음 기준 ID보다 큼)
+        unreadCountService.increment(userId, 1);
         int result = notificationMapper.insertNotification(notification);
         
         if (result > 0) {
+            publishAfterCommit(notification);
             return notification;
         } else {
             throw new RuntimeException("알람 생성에 실패했습니다.");
@@ -36,12 +56,95 @@ public class NotificationService {
     }
     
     /**
-     * 알람 목록 조회
+     * 알람 일괄 생성 (여러 수신자에게 같은 알람 전송)
+     * INSERT_BATCH_SIZE 단위의 multi-row INSERT로 저장하여 수신자 수만큼 왕복하지 않도록 함
+     * @param userIds 알람 받을 사용자 ID 리스트
+     * @param senderId 알람 보낸 사용자 ID (nullable)
+     * @param type 알람 타입
+     * @param message 알람 내용
+     * @return 생성된 Notification 객체 리스트
+     */
+    @Transactional
+    public List<Notification> createNotifications(List<Long> userIds, Long senderId, String type, String message) {
+        return createNotifications(userIds, senderId, type, message, null);
+    }
+    
+    /**
+     * outbox 이벤트로부터 알람 일괄 생성
+     * 같은 이벤트로 같은 수신자에게 두 번 생성하려 하면 DuplicateKeyException 발생 (멱등성 보장)
+     * @param userIds 알람 받을 사용자 ID 리스트
+     * @param senderId 알람 보낸 사용자 ID (nullable)
+     * @param type 알람 타입
+     * @param message 알람 내용
+     * @param sourceEventId 알람을 만든 outbox 이벤트 ID (nullable)
+     * @return 생성된 Notification 객체 리스트
+     */
+    @Transactional
+    public List<Notification> createNotifications(List<Long> userIds, Long senderId, String type, String message,
+                                                  Long sourceEventId) {
+        List<Notification> notifications = userIds.stream()
+                .map(userId -> new Notification(userId, senderId, type, message))
+                .toList();
+        if (notifications.isEmpty()) {
+            return notifications;
+        }
+        
+        // 카운터 행을 먼저 사용자 ID 순서로 잠가 "모두 읽음"과 순서를 맞추고 교착을 피함
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (Notification notification : notifications) {
+            deltas.merge(notification.getUserId(), 1, Integer::sum);
+        }
+        unreadCountService.incrementAll(deltas);
+        
+        for (int from = 0; from < notifications.size(); from += INSERT_BATCH_SIZE) {
+            List<Notification> batch = notifications.subList(from, Math.min(from + INSERT_BATCH_SIZE, notifications.size()));
+            if (notificationMapper.insertNotifications(batch, sourceEventId) != batch.size()) {
+                throw new RuntimeException("알람 생성에 실패했습니다.");
+            }
+        }
+        
+        notifications.forEach(this::publishAfterCommit);
+        return notifications;
+    }
+    
+    /**
+     * 알람 스트림 구독
+     * @param userId 사용자 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long userId) {
+        return notificationHub.subscribe(userId);
+    }
+    
+    /**
+     * 구독 중인 사용자에게 알람 전송
+     * 트랜잭션 안에서 생성된 경우 커밋 이후에 전송하여 롤백된 알람이 전달되지 않도록 함
+     * @param notification 전송할 알람
+     */
+    private void publishAfterCommit(Notification notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationHub.publish(notification);
+                }
+            });
+        } else {
+            notificationHub.publish(notification);
+        }
+    }
+    
+    /**
+     * 알람 목록 조회 (커서 기반 페이지네이션)
+     * 다음 페이지는 마지막 알람의 notificationId를 before로 전달하여 조회
      * @param userId 사용자 ID
-     * @return Notification 객체 리스트
+     * @param before 이 ID보다 오래된 알람만 조회 (null이면 최신부터)
+     * @param limit 페이지 크기 (null이면 기본값, 최대 100)
+     * @return Notification 객체 리스트 (최신순)
      */
-    public List<Notification> getNotifications(Long userId) {
-        return notificationMapper.findByUserId(userId);
+    public List<Notification> getNotifications(Long userId, Long before, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        return notificationMapper.findByUserId(userId, before, pageSize);
     }
     
     /**
@@ -49,23 +152,78 @@ public class NotificationService {
      * @param notificationId 알람 ID
      * @return 처리 결과 메시지
      */
+    @Transactional
     public String markAsRead(Long notificationId) {
-        int result = notificationMapper.markAsRead(notificationId);
-        
-        if (result > 0) {
-            return "알람을 읽음 처리했습니다.";
-        } else {
+        Long userId = notificationMapper.findUserIdById(notificationId);
+        if (userId == null) {
             throw new RuntimeException("알람 읽음 처리에 실패했습니다.");
         }
+        
+        // 이미 읽은 알람이면 0이 반환되므로 카운터는 실제로 읽음 처리된 경우에만 감소
+        if (notificationMapper.markAsRead(notificationId) > 0) {
+            unreadCountService.decrement(userId, 1);
+        }
+        return "알람을 읽음 처리했습니다.";
+    }
+    
+    /**
+     * 알람 여러 건 일괄 읽음 처리
+     * @param userId 사용자 ID
+     * @param notificationIds 알람 ID 리스트
+     * @return 처리 결과 메시지
+     */
+    @Transactional
+    public String markAsRead(Long userId, List<Long> notificationIds) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID를 입력해주세요.");
+        }
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            throw new IllegalArgumentException("읽음 처리할 알람을 선택해주세요.");
+        }
+        if (notificationIds.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_PAGE_SIZE + "개까지 읽음 처리할 수 있습니다.");
+        }
+        
+        int readCount = notificationMapper.markAsReadBatch(userId, notificationIds);
+        unreadCountService.decrement(userId, readCount);
+        return readCount + "개의 알람을 읽음 처리했습니다.";
+    }
+    
+    /**
+     * 지정한 알람까지 모두 읽음 처리
+     * 알람 행을 수정하지 않고 사용자별 읽음 기준 ID만 올려 한 번의 쓰기로 처리
+     * 알람 생성은 카운터 행을 먼저 잠그므로, 같은 잠금 아래에서 조회한 최신 알람 ID보다 작은 알람이 나중에 커밋되지 않는다.
+     * @param userId 사용자 ID
+     * @param upToId 이 ID 이하의 알람을 모두 읽음 처리 (보통 화면에 표시된 가장 최신 알람 ID, 사용자의 최신 알람 ID를 넘을 수 없음)
+     * @return 처리 결과 메시지
+     */
+    @Transactional
+    public String markAllAsRead(Long userId, Long upToId) {
+        if (userId == null || upToId == null) {
+            throw new IllegalArgumentException("사용자 ID와 알람 ID를 입력해주세요.");
+        }
+        
+        long watermark = unreadCountService.lockReadWatermark(userId);
+        Long maxId = notificationMapper.findMaxNotificationId(userId);
+        if (maxId == null || upToId > maxId) {
+            throw new IllegalArgumentException("존재하지 않는 알람 ID입니다.");
+        }
+        if (upToId <= watermark) {
+            return "이미 모든 알람을 읽음 처리했습니다.";
+        }
+        
+        int readCount = notificationMapper.countUnreadInRange(userId, watermark, upToId);
+        unreadCountService.advanceReadWatermark(userId, upToId, readCount);
+        return "모든 알람을 읽음 처리했습니다.";
     }
     
     /**
-     * 읽지 않은 알람 개수 조회
+     * 읽지 않은 알람 개수 조회 (미리 계산된 카운터 조회)
      * @param userId 사용자 ID
      * @return 읽지 않은 알람 개수
      */
     public int getUnreadCount(Long userId) {
-        return notificationMapper.countUnreadByUserId(userId);
+        return unreadCountService.getUnreadCount(userId);
     }
 }
 
@@ -0,0 +1,128 @@
+package com.taxplatform.service;
+
+import com.taxplatform.mapper.NotificationUnreadCountMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알람 개수를 관리하는 서비스
+ * 알람 생성/읽음 처리 트랜잭션 안에서 카운터를 함께 갱신하여 조회를 PK 한 번으로 처리하고,
+ * 기동 시와 주기적으로 notifications 테이블 기준으로 재계산하여 어긋난 값을 바로잡는다.
+ */
+@Service
+public class NotificationUnreadCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationUnreadCountService.class);
+
+    private final NotificationUnreadCountMapper unreadCountMapper;
+    private final int reconcileBatchSize;
+
+    public NotificationUnreadCountService(NotificationUnreadCountMapper unreadCountMapper,
+                                          @Value("${notification.unread-count.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.unreadCountMapper = unreadCountMapper;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    /**
+     * 읽지 않은 알람 개수 조회
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알람 개수
+     */
+    public int getUnreadCount(Long userId) {
+        return unreadCountMapper.findUnreadCount(userId);
+    }
+
+    /**
+     * 새 알람 생성 시 개수 증가
+     * @param userId 사용자 ID
+     * @param delta 증가할 개수
+     */
+    public void increment(Long userId, int delta) {
+        if (delta > 0) {
+            unreadCountMapper.increment(userId, delta);
+        }
+    }
+
+    /**
+     * 알람 일괄 생성 시 여러 사용자의 개수를 한 번에 증가
+     * @param deltas 사용자 ID별 증가할 개수
+     */
+    public void incrementAll(Map<Long, Integer> deltas) {
+        if (!deltas.isEmpty()) {
+            unreadCountMapper.incrementAll(deltas);
+        }
+    }
+
+    /**
+     * 알람 읽음 처리 시 개수 감소
+     * @param userId 사용자 ID
+     * @param delta 감소할 개수
+     */
+    public void decrement(Long userId, int delta) {
+        if (delta > 0) {
+            unreadCountMapper.decrement(userId, delta);
+        }
+    }
+
+    /**
+     * 읽음 기준 ID 잠금 조회 (트랜잭션 안에서 호출)
+     * @param userId 사용자 ID
+     * @return 현재 읽음 기준 ID (없으면 0)
+     */
+    public long lockReadWatermark(Long userId) {
+        Long watermark = unreadCountMapper.findReadWatermarkForUpdate(userId);
+        return watermark == null ? 0L : watermark;
+    }
+
+    /**
+     * 읽음 기준 ID를 올리고 카운터 감소
+     * @param userId 사용자 ID
+     * @param upToId 새 읽음 기준 ID
+     * @param readCount 새로 읽음 처리된 알람 개수
+     */
+    public void advanceReadWatermark(Long userId, long upToId, int readCount) {
+        unreadCountMapper.advanceReadWatermark(userId, upToId, readCount);
+    }
+
+    /**
+     * 기동 시 카운터 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error(">>> 기동 시 읽지 않은 알람 개수 재계산 실패", e);
+        }
+    }
+
+    /**
+     * notifications 테이블 기준으로 모든 사용자의 카운터 재계산
+     * 사용자마다 UPDATE 한 문장으로 다시 세므로 재계산 도중의 알람 생성/읽음 처리와 엇갈리지 않는다.
+     */
+    @Scheduled(cron = "${notification.unread-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int created = unreadCountMapper.insertMissing();
+        int updated = 0;
+        long afterUserId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = unreadCountMapper.findUserIdsAfter(afterUserId, reconcileBatchSize);
+            for (Long userId : userIds) {
+                updated += unreadCountMapper.reconcileUser(userId);
+            }
+            if (!userIds.isEmpty()) {
+                afterUserId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == reconcileBatchSize);
+        log.info(">>> 읽지 않은 알람 개수 재계산 완료: created={}, updated={}", created, updated);
+    }
+}
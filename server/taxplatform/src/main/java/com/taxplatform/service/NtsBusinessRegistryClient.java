@@ -0,0 +1,70 @@
+package com.taxplatform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taxplatform.domain.BusinessInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 국세청 사업자등록 상태조회 API 클라이언트
+ * POST {base-url}/api/nts-businessman/v1/status?serviceKey=... 로 번호 하나를 조회한다.
+ * 응답에 상태코드(b_stt_cd)가 없으면 등록되지 않은 번호로 본다.
+ */
+@Component
+@ConditionalOnProperty(name = "business-lookup.client", havingValue = "nts")
+public class NtsBusinessRegistryClient implements BusinessRegistryClient {
+
+    private static final String CLOSED_STATUS_CODE = "03"; // 폐업자
+
+    private final RestClient restClient;
+    private final String serviceKey;
+
+    public NtsBusinessRegistryClient(@Value("${business-lookup.nts.base-url:https://api.odcloud.kr}") String baseUrl,
+                                     @Value("${business-lookup.nts.service-key:}") String serviceKey,
+                                     @Value("${business-lookup.nts.connect-timeout-millis:1000}") int connectTimeoutMillis,
+                                     @Value("${business-lookup.nts.read-timeout-millis:3000}") int readTimeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.serviceKey = serviceKey;
+    }
+
+    @Override
+    public BusinessInfo lookup(String businessNumber) {
+        JsonNode response = restClient.post()
+                .uri(uriBuilder -> uriBuilder.path("/api/nts-businessman/v1/status")
+                        .queryParam("serviceKey", serviceKey)
+                        .build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("b_no", List.of(businessNumber)))
+                .retrieve()
+                .body(JsonNode.class);
+
+        JsonNode data = response == null ? null : response.path("data").path(0);
+        if (data == null || data.isMissingNode()) {
+            throw new IllegalStateException("국세청 응답에 조회 결과가 없습니다.");
+        }
+
+        String statusCode = data.path("b_stt_cd").asText("");
+        if (statusCode.isEmpty()) {
+            return null;
+        }
+        return new BusinessInfo(
+                businessNumber,
+                null,
+                data.path("tax_type").asText(null),
+                data.path("b_stt").asText(null),
+                CLOSED_STATUS_CODE.equals(statusCode));
+    }
+}
@@ -0,0 +1,163 @@
+package com.taxplatform.service;
+
+import com.taxplatform.exception.ServiceBusyException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 서비스 (BCrypt)
+ * BCrypt는 의도적으로 CPU를 많이 사용하므로 Tomcat 요청 스레드가 아닌 전용 스레드 풀(CPU 코어 수)에서 실행한다.
+ * 대기열이 가득 차거나 wait-timeout-millis 안에 끝나지 않으면 ServiceBusyException(503)으로 즉시 거절하여
+ * 로그인이 몰려도 다른 API가 영향을 받지 않는다.
+ * 이전 방식의 SHA-256 해시(64자리 16진수)도 확인할 수 있으며, needsRehash로 BCrypt 전환 대상을 판단한다.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private static final int LEGACY_SHA256_LENGTH = 64;
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    public PasswordHashingService(@Value("${password.hashing.bcrypt-strength:10}") int bcryptStrength,
+                                  @Value("${password.hashing.threads:0}") int threads,
+                                  @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password.hashing.wait-timeout-millis:3000}") long waitTimeoutMillis) {
+        this.encoder = new BCryptPasswordEncoder(bcryptStrength);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        log.info(">>> 비밀번호 해싱 스레드 풀: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 비밀번호 해싱
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     * @throws ServiceBusyException 해싱 대기열이 가득 찬 경우
+     */
+    public String hash(String rawPassword) {
+        return await(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 비동기 해싱 (응답을 기다리지 않는 재해싱용)
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시 (대기열이 가득 차면 실패한 future)
+     */
+    public CompletableFuture<String> hashAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> encoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 비밀번호 일치 확인 (BCrypt 또는 이전 SHA-256 해시)
+     * @param rawPassword 평문 비밀번호
+     * @param storedHash 저장된 해시
+     * @return 일치하면 true
+     * @throws ServiceBusyException 해싱 대기열이 가득 찬 경우
+     */
+    public boolean matches(String rawPassword, String storedHash) {
+        if (storedHash == null) {
+            return false;
+        }
+        if (isLegacyHash(storedHash)) {
+            // SHA-256은 가벼우므로 호출 스레드에서 바로 확인
+            return MessageDigest.isEqual(
+                    sha256Hex(rawPassword).getBytes(StandardCharsets.US_ASCII),
+                    storedHash.getBytes(StandardCharsets.US_ASCII));
+        }
+        return await(() -> encoder.matches(rawPassword, storedHash));
+    }
+
+    /**
+     * 다시 해싱해야 하는지 확인 (이전 SHA-256 해시이거나 BCrypt 강도가 설정보다 낮은 경우)
+     * @param storedHash 저장된 해시
+     * @return 재해싱 필요 시 true
+     */
+    public boolean needsRehash(String storedHash) {
+        if (storedHash == null) {
+            return false;
+        }
+        return isLegacyHash(storedHash) || encoder.upgradeEncoding(storedHash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T await(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("요청 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private boolean isLegacyHash(String storedHash) {
+        if (storedHash.length() != LEGACY_SHA256_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < storedHash.length(); i++) {
+            if (Character.digit(storedHash.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String sha256Hex(String rawPassword) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawPassword.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
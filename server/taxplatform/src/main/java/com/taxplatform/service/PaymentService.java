@@ -1,12 +1,17 @@
 package com.taxplatform.service;
 
-import com.taxplatform.domain.User;
+import com.taxplatform.domain.UserStatusView;
 import com.taxplatform.mapper.UserMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 /**
  * 결제 관련 비즈니스 로직을 처리하는 서비스
@@ -14,57 +19,75 @@ import java.time.temporal.ChronoUnit;
 @Service
 public class PaymentService {
     
+    private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
+    
+    // 결제 유효 기간 (일)
+    private static final int PAYMENT_VALID_DAYS = 30;
+    
+    @Value("${payment.expiry.batch-size:500}")
+    private int expiryBatchSize;
+    
     @Autowired
     private UserMapper userMapper;
     
+    @Autowired
+    private UserCache userCache;
+    
     /**
      * 결제 처리 (목업)
+     * 사용자 조회 없이 UPDATE 한 번으로 처리하며, 변경된 행이 없으면 사용자가 없는 것으로 판단한다.
      * @param userId 사용자 ID
      * @return 결제 처리 결과 메시지
      */
     public String processPayment(Long userId) {
-        User user = userMapper.findById(userId);
-        if (user == null) {
+        if (userId == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
         
         // 결제 상태 업데이트
-        user.setPaymentStatus("PAID");
-        user.setLastPaymentDate(LocalDateTime.now());
-        
-        int result = userMapper.updatePaymentStatus(user);
-        if (result > 0) {
-            return "결제가 완료되었습니다.";
-        } else {
-            throw new RuntimeException("결제 처리에 실패했습니다.");
+        int result = userMapper.markPaid(userId, LocalDateTime.now());
+        userCache.evict(userId);
+        if (result == 0) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
+        return "결제가 완료되었습니다.";
     }
     
     /**
      * 결제 상태 확인 (1달 이내 결제 여부 체크)
+     * 조회만 수행하며, 만료된 결제는 UNPAID로 계산해서 반환 (DB 반영은 만료 처리 스케줄러가 담당)
      * @param userId 사용자 ID
      * @return 결제 상태 정보
      */
     public PaymentStatusInfo checkPaymentStatus(Long userId) {
-        User user = userMapper.findById(userId);
+        UserStatusView user = userCache.findStatusById(userId);
         if (user == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
         
+        return evaluatePaymentStatus(user.getPaymentStatus(), user.getLastPaymentDate());
+    }
+    
+    /**
+     * 결제 상태 계산 (1달 이내 결제 여부 체크)
+     * 이미 조회한 사용자 상태로 계산만 수행 (대시보드 스냅샷에서도 사용)
+     * @param paymentStatus 저장된 결제 상태
+     * @param lastPaymentDate 마지막 결제일
+     * @return 결제 상태 정보
+     */
+    public PaymentStatusInfo evaluatePaymentStatus(String paymentStatus, LocalDateTime lastPaymentDate) {
         PaymentStatusInfo info = new PaymentStatusInfo();
-        info.setPaymentStatus(user.getPaymentStatus());
-        info.setLastPaymentDate(user.getLastPaymentDate());
+        info.setPaymentStatus(paymentStatus);
+        info.setLastPaymentDate(lastPaymentDate);
         
         // 1달 이내 결제 여부 체크
-        if ("PAID".equals(user.getPaymentStatus()) && user.getLastPaymentDate() != null) {
-            long daysSincePayment = ChronoUnit.DAYS.between(user.getLastPaymentDate(), LocalDateTime.now());
-            info.setValid(daysSincePayment <= 30);
-            info.setDaysRemaining(30 - (int) daysSincePayment);
+        if ("PAID".equals(paymentStatus) && lastPaymentDate != null) {
+            long daysSincePayment = ChronoUnit.DAYS.between(lastPaymentDate, LocalDateTime.now());
+            info.setValid(daysSincePayment <= PAYMENT_VALID_DAYS);
+            info.setDaysRemaining(PAYMENT_VALID_DAYS - (int) daysSincePayment);
             
-            // 1달이 지났으면 결제 상태를 UNPAID로 변경
-            if (daysSincePayment > 30) {
-                user.setPaymentStatus("UNPAID");
-                userMapper.updatePaymentStatus(user);
+            // 1달이 지났으면 만료 처리 전이라도 UNPAID로 응답
+            if (daysSincePayment > PAYMENT_VALID_DAYS) {
                 info.setPaymentStatus("UNPAID");
             }
         } else {
@@ -75,6 +98,31 @@ public class PaymentService {
         return info;
     }
     
+    /**
+     * 결제 만료 처리 스케줄러
+     * 마지막 결제일로부터 1달이 지난 PAID 사용자를 배치 단위로 UNPAID로 변경
+     */
+    @Scheduled(cron = "${payment.expiry.cron:0 0 * * * *}")
+    public void expireLapsedPayments() {
+        // checkPaymentStatus와 같은 기준: 경과 일수가 PAYMENT_VALID_DAYS를 넘으면 만료
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(PAYMENT_VALID_DAYS + 1);
+        int expired = 0;
+        
+        List<Long> userIds;
+        do {
+            userIds = userMapper.findExpiredPaidUserIds(cutoff, expiryBatchSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            expired += userMapper.expirePayments(userIds, cutoff);
+            userIds.forEach(userCache::evict);
+        } while (userIds.size() == expiryBatchSize);
+        
+        if (expired > 0) {
+            log.info(">>> 결제 만료 처리 완료: cutoff={}, expired={}", cutoff, expired);
+        }
+    }
+    
     /**
      * 결제 상태 정보 클래스
      */
@@ -0,0 +1,35 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.BusinessInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모의 사업자등록정보 조회 클라이언트 (기본값)
+ * 검증번호가 맞는 모든 번호를 등록된 사업자로 응답한다.
+ * stub-latency-millis로 외부 API 지연을 흉내낼 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "business-lookup.client", havingValue = "stub", matchIfMissing = true)
+public class StubBusinessRegistryClient implements BusinessRegistryClient {
+
+    private final long latencyMillis;
+
+    public StubBusinessRegistryClient(@Value("${business-lookup.stub-latency-millis:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public BusinessInfo lookup(String businessNumber) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("사업자 조회가 중단되었습니다.", e);
+            }
+        }
+        return new BusinessInfo(businessNumber, "테스트 사업자", "개인사업자", "계속사업자", false);
+    }
+}
@@ -0,0 +1,97 @@
+package com.taxplatform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taxplatform.domain.UserProfileView;
+import com.taxplatform.domain.UserStatusView;
+import com.taxplatform.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 사용자 ID 조회 캐시 (read-through, W-TinyLFU 크기 제한)
+ * 상태 확인용(UserStatusView)과 프로필용(UserProfileView) 캐시를 따로 두며, 둘 다 불변 객체라 그대로 공유한다.
+ * users 행을 수정하는 곳에서는 반드시 evict를 호출해야 하며,
+ * 트랜잭션 안에서 호출하면 커밋 이후에 한 번 더 제거하여 커밋 전 값이 다시 캐시되지 않도록 한다.
+ * evict는 이 노드의 캐시만 제거하므로, 여러 노드로 운영하면 다른 노드에서 바뀐 상태는
+ * 최대 expire-after-write-seconds(기본 5초) 동안 이전 값으로 보일 수 있다. (캐시는 짧은 시간 몰리는 조회를 흡수하는 용도)
+ * 히트/미스 지표는 actuator의 cache.gets{cache=userStatus|userProfile} 로 노출된다.
+ */
+@Component
+public class UserCache {
+
+    private final UserMapper userMapper;
+    private final Cache<Long, UserStatusView> statusCache;
+    private final Cache<Long, UserProfileView> profileCache;
+
+    public UserCache(UserMapper userMapper,
+                     MeterRegistry meterRegistry,
+                     @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${user.cache.expire-after-write-seconds:5}") long expireAfterWriteSeconds) {
+        this.userMapper = userMapper;
+        this.statusCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        this.profileCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, statusCache, "userStatus");
+        CaffeineCacheMetrics.monitor(meterRegistry, profileCache, "userProfile");
+    }
+
+    /**
+     * 사용자 결제/수임 동의 상태 조회 (캐시에 없으면 DB 조회)
+     * @param userId 사용자 ID
+     * @return UserStatusView 객체 (사용자가 없으면 null)
+     */
+    public UserStatusView findStatusById(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return statusCache.get(userId, userMapper::findStatusById);
+    }
+
+    /**
+     * 사용자 프로필 조회 (캐시에 없으면 DB 조회)
+     * @param userId 사용자 ID
+     * @return UserProfileView 객체 (사용자가 없으면 null)
+     */
+    public UserProfileView findProfileById(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return profileCache.get(userId, userMapper::findProfileById);
+    }
+
+    /**
+     * 사용자 캐시 제거
+     * 같은 키를 로딩 중이면 로딩이 끝난 뒤 제거되므로, 커밋 이후 제거하면 이전 값이 남지 않는다.
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long userId) {
+        statusCache.invalidate(userId);
+        profileCache.invalidate(userId);
+    }
+}
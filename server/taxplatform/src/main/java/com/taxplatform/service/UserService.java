@@ -1,16 +1,21 @@
 package com.taxplatform.service;
 
 import com.taxplatform.domain.User;
+import com.taxplatform.domain.UserAuthView;
+import com.taxplatform.domain.UserProfileView;
 import com.taxplatform.mapper.UserMapper;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * User 관련 비즈니스 로직을 처리하는 Service 클래스
@@ -21,48 +26,73 @@ public class UserService {
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
 
     private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final PasswordHashingService passwordHashingService;
+    private final ThreadPoolExecutor rehashWriter;
 
-    public UserService(UserMapper userMapper) {
+    public UserService(UserMapper userMapper, UserCache userCache, PasswordHashingService passwordHashingService,
+                       @Value("${password.hashing.rehash-queue-capacity:256}") int rehashQueueCapacity) {
         this.userMapper = userMapper;
+        this.userCache = userCache;
+        this.passwordHashingService = passwordHashingService;
+        // 재해싱 결과 저장 전용 스레드 (DB 쓰기가 느려도 해싱 스레드를 붙잡지 않음, 넘치면 다음 로그인 때 다시 시도)
+        this.rehashWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(rehashQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-rehash-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executor) -> log.warn(">>> 비밀번호 해시 저장 대기열이 가득 차 다음 로그인 때 다시 시도합니다."));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rehashWriter.shutdown();
     }
 
     /**
      * 회원가입 처리
+     * 중복 검사는 users의 UNIQUE 제약에 맡기고 INSERT 한 번으로 처리한다. (조회 후 저장 사이의 경쟁 상태 없음)
      * @param user User 객체
      * @return 저장된 User 객체
      * @throws IllegalArgumentException 입력 검증 실패 또는 중복된 사용자명/이메일인 경우
      */
-    @Transactional
     public User register(User user) {
         // 입력 검증
         validateUserForRegistration(user);
         
-        // 중복 체크
-        if (userMapper.findByUsername(user.getUsername()) != null) {
-            throw new IllegalArgumentException("이미 사용 중인 사용자명입니다.");
-        }
+        // 비밀번호 해싱 (BCrypt, 전용 스레드 풀에서 실행)
+        user.setPassword(passwordHashingService.hash(user.getPassword()));
         
-        if (userMapper.findByEmail(user.getEmail()) != null) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        try {
+            userMapper.insertUser(user);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException(duplicateMessage(user));
         }
-        
-        // 비밀번호 해싱 (간단한 SHA-256 사용, 실제로는 BCrypt 권장)
-        user.setPassword(hashPassword(user.getPassword()));
-        
-        userMapper.insertUser(user);
         log.info(">>> User 등록 성공: username={}, email={}, userId={}", 
                 user.getUsername(), user.getEmail(), user.getUserId());
         return user;
     }
 
+    /**
+     * 중복 키 오류를 사용자 안내 메시지로 변환
+     * 드라이버 오류 메시지 형식은 DB/버전마다 다르므로 INSERT 실패 후 이메일을 한 번 더 조회해 구분한다.
+     * (UNIQUE 제약은 사용자명과 이메일 두 개뿐)
+     */
+    private String duplicateMessage(User user) {
+        if (userMapper.existsByEmail(user.getEmail())) {
+            return "이미 사용 중인 이메일입니다.";
+        }
+        return "이미 사용 중인 사용자명입니다.";
+    }
+
     /**
      * 로그인 처리
      * @param usernameOrEmail 사용자명 또는 이메일
      * @param password 비밀번호
-     * @return User 객체 (비밀번호 제외)
+     * @return UserAuthView 객체 (응답에는 비밀번호를 포함하지 않아야 함)
      * @throws IllegalArgumentException 입력 검증 실패, 사용자를 찾을 수 없거나 비밀번호가 일치하지 않는 경우
      */
-    public User login(String usernameOrEmail, String password) {
+    public UserAuthView login(String usernameOrEmail, String password) {
         // 입력 검증
         if (usernameOrEmail == null || usernameOrEmail.trim().isEmpty()) {
             throw new IllegalArgumentException("사용자명 또는 이메일을 입력해주세요.");
@@ -72,19 +102,24 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호를 입력해주세요.");
         }
         
-        User user = userMapper.findByUsernameOrEmail(usernameOrEmail);
+        // '@'가 포함되면 이메일, 아니면 사용자명 인덱스로만 조회 (OR 조건의 index merge 회피)
+        UserAuthView user = usernameOrEmail.indexOf('@') >= 0
+                ? userMapper.findAuthByEmail(usernameOrEmail)
+                : userMapper.findAuthByUsername(usernameOrEmail);
         
         if (user == null) {
             throw new IllegalArgumentException("사용자명 또는 비밀번호가 올바르지 않습니다.");
         }
         
-        String hashedPassword = hashPassword(password);
-        if (!user.getPassword().equals(hashedPassword)) {
+        if (!passwordHashingService.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("사용자명 또는 비밀번호가 올바르지 않습니다.");
         }
         
-        // 비밀번호 제거 후 반환
-        user.setPassword(null);
+        // 이전 방식(SHA-256) 해시는 로그인 성공 시 BCrypt로 교체
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            rehashPassword(user.getUserId(), user.getPassword(), password);
+        }
+        
         log.info(">>> User 로그인 성공: username={}, userId={}", user.getUsername(), user.getUserId());
         return user;
     }
@@ -100,6 +135,11 @@ public class UserService {
             throw new IllegalArgumentException("사용자명을 입력해주세요.");
         }
         
+        // 로그인 시 '@' 포함 여부로 이메일/사용자명을 구분하므로 사용자명에는 '@' 사용 불가
+        if (user.getUsername().indexOf('@') >= 0) {
+            throw new IllegalArgumentException("사용자명에는 '@'를 사용할 수 없습니다.");
+        }
+        
         if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
             throw new IllegalArgumentException("이메일을 입력해주세요.");
         }
@@ -153,74 +193,56 @@ public class UserService {
     }
 
     /**
-     * 비밀번호 해싱 (SHA-256 사용)
-     * 실제 프로덕션에서는 BCrypt 같은 더 안전한 방법 사용 권장
+     * 비밀번호 재해싱 (응답을 기다리지 않고 백그라운드에서 처리)
+     * 해싱 스레드 풀은 해시만 만들고, 조건부 UPDATE는 rehashWriter에서 실행한다.
+     * 그 사이 비밀번호가 변경되었으면 덮어쓰지 않으며, 실패해도 다음 로그인 때 다시 시도한다.
      */
-    private String hashPassword(String password) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(password.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
+    private void rehashPassword(Long userId, String currentHash, String rawPassword) {
+        passwordHashingService.hashAsync(rawPassword).whenCompleteAsync((newHash, e) -> {
+            if (e != null) {
+                log.warn(">>> 비밀번호 재해싱 보류: userId={}, reason={}", userId, e.getMessage());
+                return;
+            }
+            try {
+                if (userMapper.updatePasswordHash(userId, currentHash, newHash) > 0) {
+                    log.info(">>> 비밀번호 해시 전환 완료: userId={}", userId);
                 }
-                hexString.append(hex);
+            } catch (RuntimeException ex) {
+                log.warn(">>> 비밀번호 해시 저장 실패: userId={}, reason={}", userId, ex.getMessage());
             }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error(">>> 비밀번호 해싱 실패", e);
-            throw new RuntimeException("비밀번호 해싱 중 오류가 발생했습니다.", e);
-        }
+        }, rehashWriter);
     }
 
     /**
      * 사용자 프로필 정보 조회
      * @param userId 사용자 ID
-     * @return User 객체 (비밀번호 제외)
+     * @return UserProfileView 객체 (비밀번호/주민등록번호 제외)
      * @throws IllegalArgumentException 사용자를 찾을 수 없는 경우
      */
-    public User getProfile(Long userId) {
-        User user = userMapper.findById(userId);
+    public UserProfileView getProfile(Long userId) {
+        UserProfileView user = userCache.findProfileById(userId);
 
         if (user == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
 
-        // 비밀번호 제거 후 반환
-        user.setPassword(null);
         log.info(">>> 프로필 조회 성공: userId={}", userId);
         return user;
     }
 
     /**
      * 사용자 프로필 정보 수정
+     * 사전 조회 없이 전달된 항목만 UPDATE 하며, 이메일 중복은 UNIQUE 제약으로 확인한다.
      * @param userId 사용자 ID
      * @param updateData 수정할 데이터 (name, email, phoneNumber, postalCode, address, addressDetail)
-     * @return 수정된 User 객체
-     * @throws IllegalArgumentException 입력 검증 실패 또는 사용자를 찾을 수 없는 경우
+     * @return 수정된 UserProfileView 객체
+     * @throws IllegalArgumentException 입력 검증 실패, 이메일 중복 또는 사용자를 찾을 수 없는 경우
      */
     @Transactional
-    public User updateProfile(Long userId, Map<String, String> updateData) {
-        // 사용자 존재 확인
-        User existingUser = userMapper.findById(userId);
-        if (existingUser == null) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
-        }
-
+    public UserProfileView updateProfile(Long userId, Map<String, String> updateData) {
         // 입력 검증
         validateProfileUpdate(updateData);
 
-        // 이메일 중복 체크 (변경하는 경우에만)
-        String newEmail = updateData.get("email");
-        if (newEmail != null && !newEmail.equals(existingUser.getEmail())) {
-            User userWithEmail = userMapper.findByEmail(newEmail);
-            if (userWithEmail != null && !userWithEmail.getUserId().equals(userId)) {
-                throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
-            }
-        }
-
         // User 객체 생성 및 업데이트
         User updateUser = new User();
         updateUser.setUserId(userId);
@@ -231,14 +253,19 @@ public class UserService {
         updateUser.setAddress(updateData.get("address"));
         updateUser.setAddressDetail(updateData.get("addressDetail"));
 
-        int updatedRows = userMapper.updateProfile(updateUser);
+        int updatedRows;
+        try {
+            updatedRows = userMapper.updateProfile(updateUser);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        }
+        userCache.evict(userId);
         if (updatedRows == 0) {
-            throw new IllegalArgumentException("프로필 업데이트에 실패했습니다.");
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
 
         // 업데이트된 사용자 정보 조회
-        User updatedUser = userMapper.findById(userId);
-        updatedUser.setPassword(null); // 비밀번호 제거
+        UserProfileView updatedUser = userMapper.findProfileById(userId);
 
         log.info(">>> 프로필 업데이트 성공: userId={}, updatedFields={}", userId, updateData.keySet());
         return updatedUser;
@@ -292,9 +319,10 @@ public class UserService {
      * @param userId 사용자 ID
      * @param currentPassword 현재 비밀번호
      * @param newPassword 새 비밀번호
+     * BCrypt 검증/해싱은 트랜잭션 밖에서 수행하고, 확인한 해시가 그대로일 때만
+     * 조건부 UPDATE 한 번으로 변경한다 (느린 해싱 동안 커넥션/락을 잡지 않음).
      * @throws IllegalArgumentException 입력 검증 실패 또는 사용자를 찾을 수 없는 경우
      */
-    @Transactional
     public void updatePassword(Long userId, String currentPassword, String newPassword) {
         // 입력 검증
         if (currentPassword == null || currentPassword.trim().isEmpty()) {
@@ -306,24 +334,23 @@ public class UserService {
         }
 
         // 사용자 존재 확인
-        User user = userMapper.findById(userId);
+        UserAuthView user = userMapper.findAuthById(userId);
         if (user == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
 
         // 현재 비밀번호 확인
-        String hashedCurrentPassword = hashPassword(currentPassword);
-        if (!user.getPassword().equals(hashedCurrentPassword)) {
+        if (!passwordHashingService.matches(currentPassword, user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
 
-        // 새 비밀번호 해싱 및 업데이트
-        String hashedNewPassword = hashPassword(newPassword);
-        user.setPassword(hashedNewPassword);
+        // 새 비밀번호 해싱 및 업데이트 (확인한 해시가 그대로일 때만 변경)
+        String hashedNewPassword = passwordHashingService.hash(newPassword);
 
-        int updatedRows = userMapper.updateProfile(user);
+        int updatedRows = userMapper.updatePasswordHash(userId, user.getPassword(), hashedNewPassword);
         if (updatedRows == 0) {
-            throw new IllegalArgumentException("비밀번호 변경에 실패했습니다.");
+            // 검증 이후 다른 요청이 먼저 비밀번호를 바꾼 경우
+            throw new IllegalArgumentException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
         }
 
         log.info(">>> 비밀번호 변경 성공: userId={}", userId);
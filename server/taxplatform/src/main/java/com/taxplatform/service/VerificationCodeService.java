@@ -0,0 +1,159 @@
+package com.taxplatform.service;
+
+import com.taxplatform.service.VerificationCodeStore.IssueResult;
+import com.taxplatform.service.VerificationCodeStore.VerifyResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 휴대폰 인증번호 발급/확인 서비스
+ * 번호별 발송 횟수 제한, 재발송 대기 시간, 확인 시도 횟수 제한을 적용한다.
+ * 인증번호는 VerificationCodeStore에 만료 시각과 함께 저장하고 단일 스케줄러가 주기적으로 정리한다.
+ */
+@Service
+public class VerificationCodeService {
+
+    private static final Logger log = LoggerFactory.getLogger(VerificationCodeService.class);
+
+    private static final Pattern PHONE_PATTERN = Pattern.compile("01[0-9]\\d{7,8}");
+
+    private final SecureRandom random = new SecureRandom();
+    private final VerificationCodeStore store;
+    private final VerificationPolicy policy;
+
+    public VerificationCodeService(VerificationCodeStore store,
+                                   @Value("${verification.code-ttl-seconds:180}") int codeTtlSeconds,
+                                   @Value("${verification.resend-cooldown-seconds:30}") int resendCooldownSeconds,
+                                   @Value("${verification.max-sends-per-window:5}") int maxSendsPerWindow,
+                                   @Value("${verification.send-window-seconds:3600}") int sendWindowSeconds,
+                                   @Value("${verification.max-verify-attempts:5}") int maxVerifyAttempts,
+                                   @Value("${verification.max-entries:100000}") int maxEntries) {
+        this.store = store;
+        this.policy = new VerificationPolicy(codeTtlSeconds, resendCooldownSeconds, maxSendsPerWindow,
+                sendWindowSeconds, maxVerifyAttempts, maxEntries);
+        log.info(">>> 인증번호 저장소: {}", store.getClass().getSimpleName());
+    }
+
+    /**
+     * 휴대폰 인증번호 생성 및 전송 (모의)
+     * 실제로는 SMS API를 호출해야 함
+     *
+     * @param phoneNumber 휴대폰 번호
+     * @return 생성된 인증번호 (개발 환경에서만 반환, 실제로는 SMS로 전송)
+     */
+    public Map<String, Object> sendVerificationCode(String phoneNumber) {
+        Map<String, Object> result = new HashMap<>();
+
+        if (phoneNumber == null || phoneNumber.isEmpty()) {
+            result.put("success", false);
+            result.put("message", "휴대폰 번호를 입력해주세요.");
+            return result;
+        }
+
+        // 휴대폰 번호 형식 검증
+        String cleanPhone = normalize(phoneNumber);
+        if (!PHONE_PATTERN.matcher(cleanPhone).matches()) {
+            result.put("success", false);
+            result.put("message", "올바른 휴대폰 번호 형식이 아닙니다.");
+            return result;
+        }
+
+        // 6자리 인증번호 생성
+        String code = String.format("%06d", random.nextInt(1000000));
+        IssueResult issueResult = store.issue(cleanPhone, code, policy, LocalDateTime.now());
+
+        if (issueResult != IssueResult.ISSUED) {
+            result.put("success", false);
+            result.put("message", rejectionMessage(issueResult));
+            return result;
+        }
+
+        // 모의 전송 - 실제로는 SMS API 호출
+        result.put("success", true);
+        result.put("message", "인증번호가 전송되었습니다.");
+        result.put("code", code); // 개발 환경에서만 반환
+        result.put("expiresIn", policy.codeTtlSeconds()); // 초 단위
+
+        return result;
+    }
+
+    /**
+     * 휴대폰 인증번호 확인
+     *
+     * @param phoneNumber 휴대폰 번호
+     * @param code 사용자가 입력한 인증번호
+     * @return 검증 결과
+     */
+    public Map<String, Object> verifyPhoneCode(String phoneNumber, String code) {
+        Map<String, Object> result = new HashMap<>();
+
+        if (phoneNumber == null || phoneNumber.isEmpty() || code == null || code.isEmpty()) {
+            result.put("valid", false);
+            result.put("message", "휴대폰 번호와 인증번호를 입력해주세요.");
+            return result;
+        }
+
+        VerifyResult verifyResult = store.verify(normalize(phoneNumber), code, policy, LocalDateTime.now());
+
+        if (verifyResult != VerifyResult.VERIFIED) {
+            result.put("valid", false);
+            result.put("message", failureMessage(verifyResult));
+            return result;
+        }
+
+        result.put("valid", true);
+        result.put("message", "휴대폰 인증이 완료되었습니다.");
+
+        return result;
+    }
+
+    /**
+     * 만료된 인증번호와 발송 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${verification.sweep-millis:30000}")
+    public void sweepExpired() {
+        try {
+            int purged = store.purgeExpired(policy, LocalDateTime.now());
+            if (purged > 0) {
+                log.debug(">>> 만료 인증번호 정리: {}건", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn(">>> 만료 인증번호 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private String rejectionMessage(IssueResult issueResult) {
+        switch (issueResult) {
+            case COOLDOWN:
+                return "인증번호는 " + policy.resendCooldownSeconds() + "초 후에 다시 요청할 수 있습니다.";
+            case RATE_LIMITED:
+                return "인증번호 요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.";
+            default:
+                return "요청이 많아 인증번호를 전송할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        }
+    }
+
+    private String failureMessage(VerifyResult verifyResult) {
+        switch (verifyResult) {
+            case MISMATCH:
+                return "인증번호가 일치하지 않습니다.";
+            case TOO_MANY_ATTEMPTS:
+                return "인증번호 입력 횟수를 초과했습니다. 인증번호를 다시 요청해주세요.";
+            default:
+                return "인증번호가 만료되었거나 존재하지 않습니다.";
+        }
+    }
+
+    private String normalize(String phoneNumber) {
+        return phoneNumber.replace("-", "");
+    }
+}
@@ -0,0 +1,59 @@
+package com.taxplatform.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴대폰 인증번호 저장소
+ * 번호 하나에 대한 발급/확인은 저장소 안에서 원자적으로 처리되어야 한다.
+ * verification.store 설정으로 구현체를 선택한다. (memory: 단일 노드, database: 여러 노드 공유)
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증번호 발급 결과
+     */
+    enum IssueResult {
+        ISSUED,             // 발급 완료
+        COOLDOWN,           // 재발송 대기 시간 이내
+        RATE_LIMITED,       // 제한 구간 내 발송 횟수 초과
+        CAPACITY_EXCEEDED   // 저장소 한도 초과
+    }
+
+    /**
+     * 인증번호 확인 결과
+     */
+    enum VerifyResult {
+        VERIFIED,           // 인증 성공
+        MISMATCH,           // 인증번호 불일치
+        TOO_MANY_ATTEMPTS,  // 확인 시도 횟수 초과 (인증번호 폐기)
+        EXPIRED             // 만료되었거나 발급 내역 없음
+    }
+
+    /**
+     * 인증번호 발급 및 저장
+     * @param phoneNumber 휴대폰 번호 (하이픈 제거)
+     * @param code 새 인증번호
+     * @param policy 발급 정책
+     * @param now 현재 시각
+     * @return 발급 결과
+     */
+    IssueResult issue(String phoneNumber, String code, VerificationPolicy policy, LocalDateTime now);
+
+    /**
+     * 인증번호 확인
+     * @param phoneNumber 휴대폰 번호 (하이픈 제거)
+     * @param code 사용자가 입력한 인증번호
+     * @param policy 발급 정책
+     * @param now 현재 시각
+     * @return 확인 결과
+     */
+    VerifyResult verify(String phoneNumber, String code, VerificationPolicy policy, LocalDateTime now);
+
+    /**
+     * 만료된 인증번호와 발송 기록 정리
+     * @param policy 발급 정책
+     * @param now 현재 시각
+     * @return 정리된 번호 수
+     */
+    int purgeExpired(VerificationPolicy policy, LocalDateTime now);
+}
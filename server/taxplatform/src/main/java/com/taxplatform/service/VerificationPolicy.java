@@ -0,0 +1,95 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.PhoneVerification;
+import com.taxplatform.service.VerificationCodeStore.IssueResult;
+import com.taxplatform.service.VerificationCodeStore.VerifyResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴대폰 인증번호 발급 정책
+ * 저장소 구현체는 번호별 상태를 잠근 상태에서 이 정책으로 상태를 변경하고 저장한다.
+ *
+ * @param codeTtlSeconds 인증번호 유효 시간
+ * @param resendCooldownSeconds 같은 번호로 재발송 대기 시간
+ * @param maxSendsPerWindow 제한 구간 내 최대 발송 횟수
+ * @param sendWindowSeconds 발송 제한 구간 길이
+ * @param maxVerifyAttempts 인증번호별 최대 확인 시도 횟수
+ * @param maxEntries 메모리 저장소의 최대 번호 수
+ */
+public record VerificationPolicy(int codeTtlSeconds,
+                                 int resendCooldownSeconds,
+                                 int maxSendsPerWindow,
+                                 int sendWindowSeconds,
+                                 int maxVerifyAttempts,
+                                 int maxEntries) {
+
+    /**
+     * 발송 제한을 확인하고 새 인증번호를 상태에 기록
+     */
+    public IssueResult issue(PhoneVerification state, String code, LocalDateTime now) {
+        if (state.getWindowStartedAt() == null || !now.isBefore(windowEndsAt(state))) {
+            state.setWindowStartedAt(now);
+            state.setSendsInWindow(0);
+        }
+        if (state.getLastSentAt() != null && now.isBefore(state.getLastSentAt().plusSeconds(resendCooldownSeconds))) {
+            return IssueResult.COOLDOWN;
+        }
+        if (state.getSendsInWindow() >= maxSendsPerWindow) {
+            return IssueResult.RATE_LIMITED;
+        }
+
+        state.setCode(code);
+        state.setCodeExpiresAt(now.plusSeconds(codeTtlSeconds));
+        state.setVerifyAttempts(0);
+        state.setLastSentAt(now);
+        state.setSendsInWindow(state.getSendsInWindow() + 1);
+        return IssueResult.ISSUED;
+    }
+
+    /**
+     * 인증번호를 확인하고 결과에 따라 상태 변경 (성공/시도 초과 시 인증번호 폐기)
+     */
+    public VerifyResult verify(PhoneVerification state, String code, LocalDateTime now) {
+        if (!hasLiveCode(state, now)) {
+            state.setCode(null);
+            return VerifyResult.EXPIRED;
+        }
+        if (!state.getCode().equals(code)) {
+            state.setVerifyAttempts(state.getVerifyAttempts() + 1);
+            if (state.getVerifyAttempts() >= maxVerifyAttempts) {
+                // 시도 횟수를 넘기면 인증번호를 폐기하여 무차별 대입 차단
+                state.setCode(null);
+                return VerifyResult.TOO_MANY_ATTEMPTS;
+            }
+            return VerifyResult.MISMATCH;
+        }
+
+        // 인증 성공 시 인증번호 삭제 (발송 횟수 기록은 유지)
+        state.setCode(null);
+        return VerifyResult.VERIFIED;
+    }
+
+    /**
+     * 인증번호가 만료되고 발송 제한 구간도 끝나 삭제해도 되는지 확인
+     */
+    public boolean isPurgeable(PhoneVerification state, LocalDateTime now) {
+        return !hasLiveCode(state, now)
+                && (state.getWindowStartedAt() == null || !now.isBefore(windowEndsAt(state)));
+    }
+
+    /**
+     * 이 시각 이전에 시작된 발송 제한 구간은 끝난 것으로 간주
+     */
+    public LocalDateTime windowCutoff(LocalDateTime now) {
+        return now.minusSeconds(sendWindowSeconds);
+    }
+
+    private boolean hasLiveCode(PhoneVerification state, LocalDateTime now) {
+        return state.getCode() != null && now.isBefore(state.getCodeExpiresAt());
+    }
+
+    private LocalDateTime windowEndsAt(PhoneVerification state) {
+        return state.getWindowStartedAt().plusSeconds(sendWindowSeconds);
+    }
+}
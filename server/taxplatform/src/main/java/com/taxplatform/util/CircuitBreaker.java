@@ -0,0 +1,82 @@
+package com.taxplatform.util;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커
+ * CLOSED: 모든 호출 허용, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * OPEN: openMillis 동안 호출 차단, 이후 시험 호출 한 건만 허용 (HALF_OPEN)
+ * HALF_OPEN: 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN
+ *           (시험 호출 결과가 openMillis 안에 기록되지 않으면 다음 시험 호출 허용)
+ */
+public class CircuitBreaker {
+
+    /**
+     * 서킷 상태
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long stateChangedAt;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 호출 허용 여부 확인 (허용된 호출은 반드시 recordSuccess/recordFailure로 결과를 알려야 함)
+     * @return 호출 가능하면 true
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - stateChangedAt < openMillis) {
+            return false;
+        }
+        transitionTo(State.HALF_OPEN, now);
+        return true;
+    }
+
+    /**
+     * 호출 성공 기록
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 호출 실패 기록
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            transitionTo(State.OPEN, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 현재 상태 조회
+     * @return 서킷 상태
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void transitionTo(State newState, long now) {
+        state = newState;
+        stateChangedAt = now;
+    }
+}
@@ -0,0 +1,126 @@
+package com.taxplatform.util;
+
+/**
+ * 사업자등록번호/법인등록번호 형식 및 검증번호(체크섬) 검증기
+ * 하이픈을 건너뛰며 문자 단위로 한 번만 순회하고, 결과는 미리 만들어 둔 상수를 반환하므로
+ * 호출마다 객체를 생성하지 않는다. (대량 검증에서도 GC 부담 없음)
+ */
+public final class RegistrationNumberValidator {
+
+    private static final int BUSINESS_NUMBER_LENGTH = 10;
+    private static final int CORPORATE_NUMBER_LENGTH = 13;
+
+    // 사업자등록번호 가중치 (앞 9자리)
+    private static final int[] BUSINESS_WEIGHTS = {1, 3, 7, 1, 3, 7, 1, 3, 5};
+
+    private static final Result BUSINESS_VALID = new Result(true, "유효한 사업자등록번호입니다.");
+    private static final Result BUSINESS_EMPTY = new Result(false, "사업자등록번호를 입력해주세요.");
+    private static final Result BUSINESS_LENGTH = new Result(false, "사업자등록번호는 10자리여야 합니다.");
+    private static final Result BUSINESS_NOT_DIGIT = new Result(false, "사업자등록번호는 숫자만 입력 가능합니다.");
+    private static final Result BUSINESS_CHECKSUM = new Result(false, "유효하지 않은 사업자등록번호입니다.");
+
+    private static final Result CORPORATE_VALID = new Result(true, "유효한 법인등록번호입니다.");
+    private static final Result CORPORATE_EMPTY = new Result(false, "법인등록번호를 입력해주세요.");
+    private static final Result CORPORATE_LENGTH = new Result(false, "법인등록번호는 13자리여야 합니다.");
+    private static final Result CORPORATE_NOT_DIGIT = new Result(false, "법인등록번호는 숫자만 입력 가능합니다.");
+    private static final Result CORPORATE_CHECKSUM = new Result(false, "유효하지 않은 법인등록번호입니다.");
+
+    private RegistrationNumberValidator() {
+    }
+
+    /**
+     * 검증 결과 (불변)
+     * @param valid 유효 여부
+     * @param message 사용자에게 보여줄 메시지
+     */
+    public record Result(boolean valid, String message) {
+    }
+
+    /**
+     * 사업자등록번호 검증
+     * 앞 9자리에 가중치 1,3,7,1,3,7,1,3,5를 곱해 더하고, 9번째 자리 x 5 의 십의 자리를 더한 합으로
+     * (10 - 합 % 10) % 10 이 마지막 자리와 같은지 확인한다.
+     *
+     * @param businessNumber 사업자등록번호 (하이픈 포함 가능)
+     * @return 검증 결과
+     */
+    public static Result validateBusinessNumber(CharSequence businessNumber) {
+        if (businessNumber == null || businessNumber.length() == 0) {
+            return BUSINESS_EMPTY;
+        }
+
+        int count = 0;
+        int sum = 0;
+        int checkDigit = 0;
+        boolean notDigit = false;
+
+        for (int i = 0; i < businessNumber.length(); i++) {
+            char c = businessNumber.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                notDigit = true;
+            } else if (count < BUSINESS_WEIGHTS.length) {
+                int digit = c - '0';
+                sum += digit * BUSINESS_WEIGHTS[count];
+                if (count == BUSINESS_WEIGHTS.length - 1) {
+                    sum += digit * 5 / 10;
+                }
+            } else {
+                checkDigit = c - '0';
+            }
+            count++;
+        }
+
+        if (count != BUSINESS_NUMBER_LENGTH) {
+            return BUSINESS_LENGTH;
+        }
+        if (notDigit) {
+            return BUSINESS_NOT_DIGIT;
+        }
+        return (10 - sum % 10) % 10 == checkDigit ? BUSINESS_VALID : BUSINESS_CHECKSUM;
+    }
+
+    /**
+     * 법인등록번호 검증
+     * 앞 12자리에 가중치 1,2를 번갈아 곱해 더한 합으로 (10 - 합 % 10) % 10 이 마지막 자리와 같은지 확인한다.
+     *
+     * @param corporateNumber 법인등록번호 (하이픈 포함 가능)
+     * @return 검증 결과
+     */
+    public static Result validateCorporateNumber(CharSequence corporateNumber) {
+        if (corporateNumber == null || corporateNumber.length() == 0) {
+            return CORPORATE_EMPTY;
+        }
+
+        int count = 0;
+        int sum = 0;
+        int checkDigit = 0;
+        boolean notDigit = false;
+
+        for (int i = 0; i < corporateNumber.length(); i++) {
+            char c = corporateNumber.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                notDigit = true;
+            } else if (count < CORPORATE_NUMBER_LENGTH - 1) {
+                int digit = c - '0';
+                sum += (count & 1) == 0 ? digit : digit * 2;
+            } else {
+                checkDigit = c - '0';
+            }
+            count++;
+        }
+
+        if (count != CORPORATE_NUMBER_LENGTH) {
+            return CORPORATE_LENGTH;
+        }
+        if (notDigit) {
+            return CORPORATE_NOT_DIGIT;
+        }
+        return (10 - sum % 10) % 10 == checkDigit ? CORPORATE_VALID : CORPORATE_CHECKSUM;
+    }
+}
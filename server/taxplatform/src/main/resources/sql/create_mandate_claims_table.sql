@@ -0,0 +1,28 @@
+-- mandate_claims 테이블 생성 SQL
+-- MySQL 데이터베이스에 실행하세요
+
+-- 개발 환경: 기존 테이블 삭제 후 재생성
+DROP TABLE IF EXISTS mandate_claims;
+
+-- 수임 동의 작업 대기열 (REQUESTED 회원 1명당 1행)
+-- 수임 동의 신청(REQUEST) 시 추가되고, 요청 전송/해제(SEND, RELEASE)로 REQUESTED를 벗어나면 삭제된다.
+-- 세무사는 lease_expires_at이 지난 행을 FOR UPDATE SKIP LOCKED로 가져가므로 서로 같은 행을 두고 기다리지 않는다.
+-- users 행을 건드리지 않으므로 배정/연장이 목록 정렬(mandate_updated_at)이나 상태 전이와 경합하지 않는다.
+CREATE TABLE mandate_claims (
+    user_id BIGINT PRIMARY KEY,                     -- 수임 동의를 신청한 회원
+    claimed_by BIGINT,                              -- 배정받은 세무사 (미배정이면 NULL)
+    lease_expires_at DATETIME NOT NULL DEFAULT '1970-01-01 00:00:00',  -- 배정 만료 시각 (미배정은 과거 시각)
+    enqueued_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_lease_expires_enqueued (lease_expires_at, enqueued_at),  -- 배정 가능한 행 조회 (만료 순, 같으면 신청 순)
+    INDEX idx_claimed_by (claimed_by),              -- 세무사별 배정 목록
+    
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 REQUESTED 회원 등록
+INSERT INTO mandate_claims (user_id)
+SELECT user_id
+FROM users
+WHERE role = 'CLIENT'
+AND mandate_status = 'REQUESTED';
@@ -0,0 +1,36 @@
+-- mandate_events 테이블 생성 SQL
+-- MySQL 데이터베이스에 실행하세요
+
+-- 개발 환경: 기존 테이블 삭제 후 재생성
+DROP TABLE IF EXISTS mandate_events;
+DROP TABLE IF EXISTS mandate_change_seq;
+
+-- 수임 동의 상태 변경 이력 (추가만 하며 수정/삭제하지 않음)
+-- users.mandate_status 변경과 같은 트랜잭션에서 기록하므로 상태와 이력이 항상 일치한다.
+-- change_version은 mandate_change_seq에서 받은 전체 수임 동의 변경 순번이며 users.mandate_change_version에도 기록한다.
+CREATE TABLE mandate_events (
+    event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,                        -- 상태가 바뀐 회원
+    actor_id BIGINT,                                -- 변경을 요청한 사용자 (회원 또는 세무사)
+    action VARCHAR(20) NOT NULL,                    -- 전이: REQUEST, SEND, RELEASE, COMPLETE
+    from_status VARCHAR(20) NOT NULL,               -- 변경 전 상태
+    to_status VARCHAR(20) NOT NULL,                 -- 변경 후 상태
+    version INT NOT NULL,                           -- 변경 후 users.mandate_version
+    change_version BIGINT NOT NULL,                 -- 전체 수임 동의 변경 순번 (mandate_change_seq)
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    UNIQUE KEY uk_user_version (user_id, version),  -- 회원별 버전당 이력 하나 (중복 기록 방지)
+    
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 수임 동의 변경 순번 (행 하나)
+-- 상태 전이 트랜잭션 안에서 UPDATE로 1 증가시키므로 행 잠금이 커밋까지 유지되어 순번 발급 순서가 커밋 순서와 같다.
+-- 따라서 커밋된 version 이하의 순번은 모두 커밋된 것이고, 어느 노드에서 읽어도 "since=N 이후 변경" 조회 기준으로 안전하다.
+-- (AUTO_INCREMENT는 발급 순서와 커밋 순서가 달라 작은 순번이 나중에 커밋될 수 있음)
+CREATE TABLE mandate_change_seq (
+    id TINYINT PRIMARY KEY,                         -- 항상 1
+    version BIGINT NOT NULL                         -- 마지막으로 발급한 변경 순번
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO mandate_change_seq (id, version) VALUES (1, 0);
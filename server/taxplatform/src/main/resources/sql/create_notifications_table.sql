@@ -2,6 +2,9 @@
 -- MySQL 데이터베이스에 실행하세요
 
 -- 개발 환경: 기존 테이블 삭제 후 재생성
+DROP TABLE IF EXISTS notifications_archive;
+DROP TABLE IF EXISTS notification_outbox;
+DROP TABLE IF EXISTS notification_unread_counts;
 DROP TABLE IF EXISTS notifications;
 
 CREATE TABLE notifications (
@@ -11,14 +14,70 @@ CREATE TABLE notifications (
     type VARCHAR(20) NOT NULL,                      -- 알람 타입: CLIENT_TO_TAX(회원→세무사), TAX_TO_CLIENT(세무사→회원)
     message TEXT NOT NULL,                          -- 알람 내용
     is_read BOOLEAN NOT NULL DEFAULT FALSE,         -- 읽음 여부
+    source_event_id BIGINT,                         -- 알람을 만든 outbox 이벤트 ID (멱등성 키, nullable)
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     
-    INDEX idx_user_id (user_id),
+    UNIQUE KEY uk_source_event_user (source_event_id, user_id),  -- 같은 이벤트로 중복 알람 생성 방지
+    INDEX idx_user_notification (user_id, notification_id),  -- 사용자별 알람 목록 keyset 페이지네이션
+    INDEX idx_user_is_read (user_id, is_read),                -- 읽지 않은 알람 개수 재계산
     INDEX idx_sender_id (sender_id),
-    INDEX idx_is_read (is_read),
-    INDEX idx_created_at (created_at),
+    INDEX idx_created_at (created_at),                        -- 보관 기간 지난 알람 조회 (아카이브 작업)
     
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
     FOREIGN KEY (sender_id) REFERENCES users(user_id) ON DELETE SET NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 사용자별 읽지 않은 알람 개수 (알람 생성/읽음 처리 시 함께 갱신, 주기적으로 재계산)
+-- read_watermark 이하의 알람은 is_read 값과 관계없이 읽은 것으로 간주 ("모두 읽음" 처리를 한 번의 쓰기로 처리)
+CREATE TABLE notification_unread_counts (
+    user_id BIGINT PRIMARY KEY,
+    unread_count INT NOT NULL DEFAULT 0,
+    read_watermark BIGINT NOT NULL DEFAULT 0,       -- 이 ID 이하의 알람은 모두 읽음
+
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 알람 outbox (업무 트랜잭션과 함께 기록, 백그라운드 디스패처가 수신자별 알람으로 전개)
+CREATE TABLE notification_outbox (
+    event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sender_id BIGINT,                               -- 알람 보낸 사용자 (nullable)
+    recipient_id BIGINT,                            -- 알람 받을 사용자 (recipient_role과 둘 중 하나)
+    recipient_role VARCHAR(20),                     -- 알람 받을 역할: TAX_ACCOUNTANT (해당 역할 전체)
+    type VARCHAR(20) NOT NULL,                      -- 알람 타입
+    message TEXT NOT NULL,                          -- 알람 내용
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',  -- 처리상태: PENDING(대기), DONE(완료), FAILED(재시도 초과)
+    attempts INT NOT NULL DEFAULT 0,                -- 처리 시도 횟수
+    last_error VARCHAR(500),                        -- 마지막 실패 사유
+    next_attempt_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at DATETIME,
+
+    INDEX idx_status_next_attempt (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 알람 아카이브 (보관 기간이 지난 읽은 알람을 notifications에서 옮겨 보관)
+-- 외래키가 있는 테이블은 파티셔닝할 수 없으므로 notifications 대신 아카이브 테이블에만 파티션 적용 가능
+CREATE TABLE notifications_archive (
+    notification_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    sender_id BIGINT,
+    type VARCHAR(20) NOT NULL,
+    message TEXT NOT NULL,
+    is_read BOOLEAN NOT NULL,
+    source_event_id BIGINT,
+    created_at DATETIME NOT NULL,
+    archived_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (notification_id, created_at),
+    INDEX idx_archive_user_notification (user_id, notification_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- (선택) 아카이브 월별 RANGE 파티셔닝: 오래된 달은 ALTER TABLE ... DROP PARTITION 으로 즉시 삭제 가능
+-- 배포 환경에서 필요한 경우 아래 구문을 실행하고, 매달 다음 달 파티션을 REORGANIZE PARTITION 으로 추가하세요
+-- ALTER TABLE notifications_archive
+-- PARTITION BY RANGE (TO_DAYS(created_at)) (
+--     PARTITION p202601 VALUES LESS THAN (TO_DAYS('2026-02-01')),
+--     PARTITION p202602 VALUES LESS THAN (TO_DAYS('2026-03-01')),
+--     PARTITION p202603 VALUES LESS THAN (TO_DAYS('2026-04-01')),
+--     PARTITION pmax VALUES LESS THAN MAXVALUE
+-- );
@@ -0,0 +1,18 @@
+-- phone_verifications 테이블 생성 SQL
+-- MySQL 데이터베이스에 실행하세요
+-- verification.store: database 설정 시 사용 (여러 서버가 인증번호와 발송 제한 기록을 공유)
+
+-- 개발 환경: 기존 테이블 삭제 후 재생성
+DROP TABLE IF EXISTS phone_verifications;
+
+CREATE TABLE phone_verifications (
+    phone_number VARCHAR(20) PRIMARY KEY,           -- 휴대폰 번호 (하이픈 제거)
+    code VARCHAR(10),                               -- 인증번호 (확인 완료/폐기 시 NULL)
+    code_expires_at DATETIME(3),                    -- 인증번호 만료 시각
+    verify_attempts INT NOT NULL DEFAULT 0,         -- 현재 인증번호 확인 실패 횟수
+    last_sent_at DATETIME(3),                       -- 마지막 발송 시각 (재발송 대기 시간 계산)
+    window_started_at DATETIME(3),                  -- 발송 횟수 제한 구간 시작 시각
+    sends_in_window INT NOT NULL DEFAULT 0,         -- 제한 구간 내 발송 횟수
+
+    INDEX idx_window_started_at (window_started_at) -- 만료 행 일괄 정리
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -3,13 +3,16 @@
 
 -- 개발 환경: 기존 테이블 삭제 후 재생성
 -- 외래키 관계가 있는 테이블을 먼저 삭제
+DROP TABLE IF EXISTS mandate_claims;
+DROP TABLE IF EXISTS mandate_events;
+DROP TABLE IF EXISTS notification_unread_counts;
 DROP TABLE IF EXISTS notifications;
 DROP TABLE IF EXISTS users;
 
 CREATE TABLE users (
     user_id BIGINT AUTO_INCREMENT PRIMARY KEY,
-    username VARCHAR(50) NOT NULL UNIQUE,
-    email VARCHAR(100) NOT NULL UNIQUE,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
     password VARCHAR(255) NOT NULL,
     name VARCHAR(100) NOT NULL,
     
@@ -28,16 +31,19 @@ CREATE TABLE users (
     payment_status VARCHAR(20) NOT NULL DEFAULT 'UNPAID', -- 결제상태: UNPAID(미결제), PAID(결제완료)
     last_payment_date DATETIME,                           -- 마지막 결제일 (1달 단위 체크용)
     mandate_status VARCHAR(20) NOT NULL DEFAULT 'NONE',   -- 수임동의상태: NONE(없음), REQUESTED(신청됨), SENT(세무사가 홈택스 요청 보냄), COMPLETED(완료)
+    mandate_version INT NOT NULL DEFAULT 0,               -- 수임동의상태 버전 (낙관적 잠금, 전이마다 1 증가)
+    mandate_change_version BIGINT NOT NULL DEFAULT 0,     -- 마지막 수임 동의 변경 순번 (mandate_change_seq, 변경분 조회용)
+    mandate_updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,  -- 수임동의상태 변경 시각 (상태 전이에서만 변경, 목록 정렬/커서 기준)
     
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    INDEX idx_username (username),
-    INDEX idx_email (email),
+    UNIQUE KEY uk_users_username (username),   -- 회원가입 시 중복 검사 (중복이면 INSERT 실패)
+    UNIQUE KEY uk_users_email (email),
     INDEX idx_phone_number (phone_number),
     INDEX idx_business_number (business_number),
-    INDEX idx_role (role),
-    INDEX idx_payment_status (payment_status),
-    INDEX idx_mandate_status (mandate_status)
+    INDEX idx_payment_status_date (payment_status, last_payment_date),  -- 결제 만료 처리 대상 조회
+    INDEX idx_role_mandate_status_updated (role, mandate_status, mandate_updated_at, user_id),  -- 역할별 조회, 수임 동의 목록 keyset 페이지네이션
+    INDEX idx_mandate_change_version (mandate_change_version)  -- 수임 동의 변경분 조회 (since=N)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 
@@ -0,0 +1,79 @@
+package com.taxplatform.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadDataSourceTests {
+
+	@Test
+	void rejectsBeyondLimitAndReleasesOnClose() throws Exception {
+		BulkheadDataSource dataSource = new BulkheadDataSource(h2(), 2, 50);
+
+		Connection first = dataSource.getConnection();
+		Connection second = dataSource.getConnection();
+		assertThat(dataSource.getActiveCount()).isEqualTo(2);
+		assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+		// 두 번 닫아도 허가는 한 번만 반납
+		first.close();
+		first.close();
+		assertThat(first.isClosed()).isTrue();
+		assertThat(dataSource.getActiveCount()).isEqualTo(1);
+
+		try (Connection third = dataSource.getConnection()) {
+			assertThat(third.isValid(1)).isTrue();
+			assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+		}
+		second.close();
+		assertThat(dataSource.getActiveCount()).isZero();
+	}
+
+	@Test
+	void boundsConcurrentConnectionsUnderLoad() throws Exception {
+		BulkheadDataSource dataSource = new BulkheadDataSource(h2(), 3, 5000);
+		AtomicInteger current = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				futures.add(executor.submit(() -> {
+					try (Connection connection = dataSource.getConnection()) {
+						peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+						connection.createStatement().execute("SELECT 1");
+						current.decrementAndGet();
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(peak.get()).isLessThanOrEqualTo(3);
+		assertThat(dataSource.getActiveCount()).isZero();
+	}
+
+	private JdbcDataSource h2() {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1");
+		return dataSource;
+	}
+}
@@ -0,0 +1,79 @@
+package com.taxplatform.mapper;
+
+import com.taxplatform.domain.User;
+import com.taxplatform.domain.UserAuthView;
+import com.taxplatform.domain.UserProfileView;
+import com.taxplatform.domain.UserStatusView;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserMapperTests {
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Test
+	void mapsProjectionViews() {
+		User user = TestUsers.newUser("mapper");
+		user.setName("홍길동");
+		user.setUserType("INDIVIDUAL");
+		user.setBusinessNumber("2208162517");
+		userMapper.insertUser(user);
+
+		UserAuthView auth = userMapper.findAuthByUsername(user.getUsername());
+		assertThat(auth.getUserId()).isEqualTo(user.getUserId());
+		assertThat(auth.getPassword()).isEqualTo("hash");
+		assertThat(auth.getRole()).isEqualTo("CLIENT");
+		assertThat(userMapper.findAuthByEmail(user.getEmail()).getUsername()).isEqualTo(user.getUsername());
+
+		UserStatusView status = userMapper.findStatusById(user.getUserId());
+		assertThat(status.getName()).isEqualTo("홍길동");
+		assertThat(status.getPaymentStatus()).isEqualTo("UNPAID");
+		assertThat(status.getMandateStatus()).isEqualTo("NONE");
+
+		UserProfileView profile = userMapper.findProfileById(user.getUserId());
+		assertThat(profile.getPhoneNumber()).isEqualTo("01012345678");
+		assertThat(profile.getBusinessNumber()).isEqualTo("2208162517");
+
+		assertThat(userMapper.findStatusById(-1L)).isNull();
+	}
+
+	@Test
+	void appliesConditionalUpdates() {
+		User user = TestUsers.newUser("transition");
+		user.setName("김철수");
+		userMapper.insertUser(user);
+		Long userId = user.getUserId();
+
+		// 버전이 조회 시점과 같을 때만 변경
+		assertThat(userMapper.findMandateState(userId).getMandateVersion()).isZero();
+		assertThat(userMapper.compareAndSetMandateStatus(userId, 0, "REQUESTED", 1L)).isEqualTo(1);
+		assertThat(userMapper.compareAndSetMandateStatus(userId, 0, "SENT", 2L)).isZero();
+		assertThat(userMapper.findMandateState(userId).getMandateStatus()).isEqualTo("REQUESTED");
+		assertThat(userMapper.findMandateState(userId).getMandateVersion()).isEqualTo(1);
+
+		assertThat(userMapper.markPaid(userId, LocalDateTime.now())).isEqualTo(1);
+		assertThat(userMapper.markPaid(-1L, LocalDateTime.now())).isZero();
+		assertThat(userMapper.findStatusById(userId).getPaymentStatus()).isEqualTo("PAID");
+
+		// 전달된 항목만 변경
+		User update = new User();
+		update.setUserId(userId);
+		update.setAddress("서울시 중구");
+		assertThat(userMapper.updateProfile(update)).isEqualTo(1);
+		UserProfileView profile = userMapper.findProfileById(userId);
+		assertThat(profile.getAddress()).isEqualTo("서울시 중구");
+		assertThat(profile.getName()).isEqualTo("김철수");
+	}
+}
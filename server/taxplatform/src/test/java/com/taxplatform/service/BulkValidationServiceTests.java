@@ -0,0 +1,110 @@
+package com.taxplatform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkValidationServiceTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void skipsHeaderAndBlankLines() throws IOException {
+		List<JsonNode> rows = validate(new BulkValidationService(objectMapper, 1, 2000, 500, 100),
+				"type,number\nBUSINESS,220-81-62517\n\nCORPORATE,110111-1234567\n1248100998\n110111-0032154\n");
+
+		assertThat(rows).extracting(row -> row.get("line").asInt()).containsExactly(2, 4, 5, 6);
+		assertThat(rows).extracting(row -> row.get("type").asText())
+				.containsExactly("BUSINESS", "CORPORATE", "BUSINESS", "CORPORATE");
+		assertThat(rows).extracting(row -> row.get("valid").asBoolean()).containsExactly(true, false, true, true);
+		assertThat(rows.get(1).get("message").asText()).isEqualTo("유효하지 않은 법인등록번호입니다.");
+	}
+
+	@Test
+	void keepsFirstDataLineWithByteOrderMark() throws IOException {
+		BulkValidationService service = new BulkValidationService(objectMapper, 1, 2000, 500, 100);
+
+		List<JsonNode> withBom = validate(service, "\uFEFFBUSINESS,220-81-62517\nCORPORATE,110111-0032154\n");
+		assertThat(withBom).extracting(row -> row.get("line").asInt()).containsExactly(1, 2);
+		assertThat(withBom.get(0).get("valid").asBoolean()).isTrue();
+
+		// 번호가 있는 첫 줄은 헤더가 아니라 데이터로 보고, 알 수 없는 종류는 검증하지 않고 실패 처리
+		List<JsonNode> unknownType = validate(service, "\uFEFF사업자,2208162517\n");
+		assertThat(unknownType).extracting(row -> row.get("line").asInt()).containsExactly(1);
+		assertThat(unknownType.get(0).get("valid").asBoolean()).isFalse();
+		assertThat(unknownType.get(0).get("message").asText()).contains("알 수 없는 번호 종류");
+
+		assertThat(validate(service, "\uFEFFtype,number\n")).isEmpty();
+	}
+
+	@Test
+	void followsColumnOrderFromHeader() throws IOException {
+		BulkValidationService service = new BulkValidationService(objectMapper, 1, 2000, 500, 100);
+
+		List<JsonNode> swapped = validate(service,
+				"Number,Type\n220-81-62517,BUSINESS\n110111-0032154,corporate\nBUSINESS,220-81-62517\n1248100998,BUSINESS,x\n");
+		assertThat(swapped).extracting(row -> row.get("valid").asBoolean()).containsExactly(true, true, false, false);
+		assertThat(swapped).extracting(row -> row.get("number").asText())
+				.containsExactly("220-81-62517", "110111-0032154", "BUSINESS", "1248100998,BUSINESS,x");
+		// 헤더와 다른 순서의 행, 열 개수가 다른 행은 사유와 함께 실패
+		assertThat(swapped.get(2).get("message").asText()).contains("알 수 없는 번호 종류");
+		assertThat(swapped.get(3).get("message").asText()).contains("number,type");
+
+		List<JsonNode> numberOnly = validate(service, "number\n2208162517\n");
+		assertThat(numberOnly).extracting(row -> row.get("type").asText()).containsExactly("BUSINESS");
+
+		// 문서에 없는 헤더는 응답을 쓰기 전에 거부
+		assertThatThrownBy(() -> service.open(stream("사업자번호,종류\n2208162517,BUSINESS\n")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("지원하지 않는 헤더");
+	}
+
+	@Test
+	void stopsAtMaxRowsAcrossParallelChunks() throws IOException {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 12; i++) {
+			body.append(i % 2 == 0 ? "220-81-62517" : "220-81-62518").append('\n');
+		}
+
+		List<JsonNode> rows = validate(new BulkValidationService(objectMapper, 3, 4, 2, 10), body.toString());
+
+		// 검증 결과 10건 + 마지막 오류 행
+		assertThat(rows).hasSize(11);
+		assertThat(rows.subList(0, 10)).extracting(row -> row.get("line").asInt())
+				.containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		assertThat(rows.subList(0, 10)).extracting(row -> row.get("valid").asBoolean())
+				.containsExactly(true, false, true, false, true, false, true, false, true, false);
+		JsonNode cutoff = rows.get(10);
+		assertThat(cutoff.has("line")).isFalse();
+		assertThat(cutoff.get("valid").asBoolean()).isFalse();
+		assertThat(cutoff.get("message").asText()).contains("최대 10건");
+	}
+
+	private List<JsonNode> validate(BulkValidationService service, String body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.validate(stream(body), out);
+
+		// NDJSON: 한 줄에 하나의 JSON 객체
+		List<JsonNode> rows = new ArrayList<>();
+		for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+			if (!line.isBlank()) {
+				rows.add(objectMapper.readTree(line));
+			}
+		}
+		return rows;
+	}
+
+	private ByteArrayInputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
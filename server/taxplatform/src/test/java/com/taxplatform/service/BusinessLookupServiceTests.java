@@ -0,0 +1,134 @@
+package com.taxplatform.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.taxplatform.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 국세청 조회 API를 흉내내는 로컬 stub 서버로 BusinessLookupService 동작 확인
+ */
+class BusinessLookupServiceTests {
+
+	private static final String REGISTERED = "2208162517";
+	private static final String UNREGISTERED = "1248100998";
+
+	private final AtomicInteger calls = new AtomicInteger();
+	private volatile long delayMillis;
+	private volatile boolean failing;
+	private HttpServer server;
+
+	@BeforeEach
+	void startStubServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/api/nts-businessman/v1/status", exchange -> {
+			calls.incrementAndGet();
+			String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			sleep(delayMillis);
+
+			String body;
+			int status = 200;
+			if (failing) {
+				status = 500;
+				body = "{}";
+			} else if (request.contains(REGISTERED)) {
+				body = "{\"status_code\":\"OK\",\"data\":[{\"b_no\":\"" + REGISTERED + "\",\"b_stt\":\"계속사업자\",\"b_stt_cd\":\"01\",\"tax_type\":\"부가가치세 일반과세자\"}]}";
+			} else {
+				body = "{\"status_code\":\"OK\",\"data\":[{\"b_no\":\"\",\"b_stt\":\"\",\"b_stt_cd\":\"\",\"tax_type\":\"국세청에 등록되지 않은 사업자등록번호입니다.\"}]}";
+			}
+
+			byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, bytes.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void stopStubServer() {
+		server.stop(0);
+	}
+
+	@Test
+	void cachesFoundAndNotFoundResults() {
+		BusinessLookupService service = createService(1000);
+
+		assertThat(service.lookup(REGISTERED).status()).isEqualTo(BusinessLookupService.Status.FOUND);
+		assertThat(service.lookup(REGISTERED).info().getBusinessStatus()).isEqualTo("계속사업자");
+		assertThat(service.lookup(UNREGISTERED).status()).isEqualTo(BusinessLookupService.Status.NOT_FOUND);
+		assertThat(service.lookup(UNREGISTERED).status()).isEqualTo(BusinessLookupService.Status.NOT_FOUND);
+
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void coalescesConcurrentLookups() {
+		delayMillis = 300;
+		BusinessLookupService service = createService(2000);
+
+		List<CompletableFuture<BusinessLookupService.LookupResult>> lookups = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			lookups.add(CompletableFuture.supplyAsync(() -> service.lookup(REGISTERED)));
+		}
+		lookups.forEach(lookup -> assertThat(lookup.join().status()).isEqualTo(BusinessLookupService.Status.FOUND));
+
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void returnsUnavailableWhenUpstreamIsSlow() {
+		delayMillis = 1000;
+		BusinessLookupService service = createService(100);
+
+		long startedAt = System.currentTimeMillis();
+		assertThat(service.lookup(REGISTERED).status()).isEqualTo(BusinessLookupService.Status.UNAVAILABLE);
+		assertThat(System.currentTimeMillis() - startedAt).isLessThan(800);
+		assertThat(service.verifyBusinessNumber("220-81-62517").get("verified")).isEqualTo(false);
+	}
+
+	@Test
+	void opensCircuitAfterConsecutiveFailures() {
+		failing = true;
+		BusinessLookupService service = createService(1000);
+
+		service.lookup(REGISTERED);
+		service.lookup(REGISTERED);
+		assertThat(service.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		assertThat(service.lookup(REGISTERED).status()).isEqualTo(BusinessLookupService.Status.UNAVAILABLE);
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	private BusinessLookupService createService(long timeoutMillis) {
+		NtsBusinessRegistryClient client = new NtsBusinessRegistryClient(
+				"http://127.0.0.1:" + server.getAddress().getPort(), "test-key", 500, 2000);
+		return new BusinessLookupService(client, new SimpleMeterRegistry(),
+				100, 60, 60, 2, 10, timeoutMillis, 2, 60);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.taxplatform.service;
+
+import com.taxplatform.controller.DashboardController;
+import com.taxplatform.domain.DashboardSnapshot;
+import com.taxplatform.domain.Notification;
+import com.taxplatform.dto.ApiResponse;
+import com.taxplatform.mapper.DashboardMapper;
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DashboardTests {
+
+	@Autowired
+	private DashboardMapper dashboardMapper;
+
+	@Autowired
+	private DashboardController dashboardController;
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Test
+	void snapshotCombinesStatusCountAndNewestNotifications() {
+		Long userId = TestUsers.insert(userMapper, "dashboard");
+		DashboardSnapshot empty = dashboardMapper.findSnapshot(userId, 2);
+		assertThat(empty.getNotifications()).isEmpty();
+		assertThat(empty.getUnreadCount()).isZero();
+		assertThat(empty.getMandateStatus()).isEqualTo("NONE");
+
+		create(userId);
+		Long second = create(userId);
+		Long third = create(userId);
+		notificationService.markAllAsRead(userId, second);
+		userMapper.markPaid(userId, LocalDateTime.now());
+
+		DashboardSnapshot snapshot = dashboardMapper.findSnapshot(userId, 2);
+		assertThat(snapshot.getPaymentStatus()).isEqualTo("PAID");
+		assertThat(snapshot.getUnreadCount()).isEqualTo(1);
+		// 최신 N건만 최신순, 읽음 여부는 읽음 기준 ID 반영
+		assertThat(snapshot.getNotifications()).extracting(Notification::getNotificationId).containsExactly(third, second);
+		assertThat(snapshot.getNotifications()).extracting(Notification::getIsRead).containsExactly(false, true);
+
+		assertThat(dashboardMapper.findSnapshot(-1L, 2)).isNull();
+	}
+
+	@Test
+	void returnsNotModifiedWhileEtagMatches() {
+		Long userId = TestUsers.insert(userMapper, "etag");
+		create(userId);
+
+		ResponseEntity<ApiResponse<?>> first = dashboardController.getDashboard(userId, null);
+		assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+		String etag = first.getHeaders().getETag();
+		assertThat(etag).isNotNull();
+
+		ResponseEntity<ApiResponse<?>> unchanged = dashboardController.getDashboard(userId, etag);
+		assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(unchanged.getBody()).isNull();
+		assertThat(dashboardController.getDashboard(userId, "W/" + etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+		// 새 알람이 오면 ETag가 바뀌어 본문을 다시 받음
+		create(userId);
+		ResponseEntity<ApiResponse<?>> changed = dashboardController.getDashboard(userId, etag);
+		assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+
+		assertThat(dashboardController.getDashboard(-1L, null).getBody().getCode()).isEqualTo("DASHBOARD_FETCH_FAILED");
+	}
+
+	private Long create(Long userId) {
+		return notificationService.createNotification(userId, null, "TAX_TO_CLIENT", "알람").getNotificationId();
+	}
+}
@@ -0,0 +1,69 @@
+package com.taxplatform.service;
+
+import com.taxplatform.service.VerificationCodeStore.IssueResult;
+import com.taxplatform.service.VerificationCodeStore.VerifyResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "verification.store=database")
+@ActiveProfiles("test")
+class DatabaseVerificationCodeStoreTests {
+
+	private final VerificationPolicy policy = new VerificationPolicy(180, 30, 2, 3600, 3, 100);
+
+	@Autowired
+	private VerificationCodeStore store;
+
+	@Test
+	void usesDatabaseStore() {
+		assertThat(store).isInstanceOf(DatabaseVerificationCodeStore.class);
+	}
+
+	@Test
+	void issueAndVerify() {
+		LocalDateTime now = LocalDateTime.now();
+
+		assertThat(store.issue("01011112222", "123456", policy, now)).isEqualTo(IssueResult.ISSUED);
+		assertThat(store.verify("01011112222", "000000", policy, now)).isEqualTo(VerifyResult.MISMATCH);
+		assertThat(store.verify("01011112222", "123456", policy, now)).isEqualTo(VerifyResult.VERIFIED);
+		assertThat(store.verify("01011112222", "123456", policy, now)).isEqualTo(VerifyResult.EXPIRED);
+	}
+
+	@Test
+	void enforcesCooldownAndSendLimit() {
+		LocalDateTime now = LocalDateTime.now();
+
+		assertThat(store.issue("01022223333", "111111", policy, now)).isEqualTo(IssueResult.ISSUED);
+		assertThat(store.issue("01022223333", "222222", policy, now.plusSeconds(10))).isEqualTo(IssueResult.COOLDOWN);
+		assertThat(store.issue("01022223333", "333333", policy, now.plusSeconds(40))).isEqualTo(IssueResult.ISSUED);
+		assertThat(store.issue("01022223333", "444444", policy, now.plusSeconds(80))).isEqualTo(IssueResult.RATE_LIMITED);
+	}
+
+	@Test
+	void discardsCodeAfterTooManyAttempts() {
+		LocalDateTime now = LocalDateTime.now();
+
+		store.issue("01033334444", "123456", policy, now);
+		store.verify("01033334444", "000000", policy, now);
+		store.verify("01033334444", "000000", policy, now);
+		assertThat(store.verify("01033334444", "000000", policy, now)).isEqualTo(VerifyResult.TOO_MANY_ATTEMPTS);
+		assertThat(store.verify("01033334444", "123456", policy, now)).isEqualTo(VerifyResult.EXPIRED);
+	}
+
+	@Test
+	void purgesOnlyExpiredRows() {
+		LocalDateTime now = LocalDateTime.now();
+
+		store.issue("01044445555", "123456", policy, now.minusHours(2));
+		store.issue("01055556666", "123456", policy, now);
+
+		assertThat(store.purgeExpired(policy, now)).isGreaterThanOrEqualTo(1);
+		assertThat(store.verify("01055556666", "123456", policy, now)).isEqualTo(VerifyResult.VERIFIED);
+	}
+}
@@ -0,0 +1,81 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.MandateListItem;
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.service.MandateService.MandateListPage;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MandateListTests {
+
+	// 다른 테스트 데이터와 겹치지 않는 변경 날짜 범위
+	private static final LocalDate DAY = LocalDate.of(2030, 1, 15);
+
+	@Autowired
+	private MandateService mandateService;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void pagesAcrossStatusesInOrder() {
+		Long completed = insertClient("COMPLETED", "2030-01-15 09:00:00");
+		Long sentOld = insertClient("SENT", "2030-01-15 08:00:00");
+		Long sentNew = insertClient("SENT", "2030-01-15 10:00:00");
+		Long requestedA = insertClient("REQUESTED", "2030-01-15 07:00:00");
+		Long requestedB = insertClient("REQUESTED", "2030-01-15 07:00:00");
+
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		MandateListPage first = null;
+		do {
+			MandateListPage page = mandateService.getMandateList(null, DAY, DAY, cursor, 2);
+			if (first == null) {
+				first = page;
+			}
+			page.getItems().stream().map(MandateListItem::getUserId).forEach(seen::add);
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		// 상태 순서 → 최근 변경 순 → 같은 시각이면 ID 역순
+		assertThat(seen).containsExactly(requestedB, requestedA, sentNew, sentOld, completed);
+		assertThat(first.getCounts()).containsEntry("REQUESTED", 2L).containsEntry("SENT", 2L).containsEntry("COMPLETED", 1L);
+
+		// 프로필 변경(updated_at)은 목록 순서에 영향을 주지 않음
+		jdbcTemplate.update("UPDATE users SET name = ?, updated_at = ? WHERE user_id = ?", "변경", "2030-01-15 11:00:00", sentOld);
+
+		MandateListPage sentOnly = mandateService.getMandateList("SENT", DAY, DAY, null, 10);
+		assertThat(sentOnly.getItems()).extracting(MandateListItem::getUserId).containsExactly(sentNew, sentOld);
+		assertThat(sentOnly.getNextCursor()).isNull();
+
+		assertThatThrownBy(() -> mandateService.getMandateList("NONE", null, null, null, null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> mandateService.getMandateList(null, null, null, "not-a-cursor", null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Long insertClient(String mandateStatus, String updatedAt) {
+		Long userId = TestUsers.insert(userMapper, "list");
+		jdbcTemplate.update("UPDATE users SET mandate_status = ?, mandate_updated_at = ? WHERE user_id = ?",
+				mandateStatus, updatedAt, userId);
+		return userId;
+	}
+}
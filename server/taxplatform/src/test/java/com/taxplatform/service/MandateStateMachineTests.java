@@ -0,0 +1,181 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.MandateEvent;
+import com.taxplatform.domain.MandateListItem;
+import com.taxplatform.exception.MandateTransitionException;
+import com.taxplatform.mapper.MandateEventMapper;
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.service.MandateService.MandateChanges;
+import com.taxplatform.service.MandateStateMachine.Action;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MandateStateMachineTests {
+
+	@Autowired
+	private MandateStateMachine mandateStateMachine;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private MandateEventMapper mandateEventMapper;
+
+	@Autowired
+	private MandateChangeRegister mandateChangeRegister;
+
+	@Autowired
+	private MandateService mandateService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void followsAllowedTransitionsAndRecordsEvents() {
+		Long clientId = TestUsers.insert(userMapper, "sm-flow");
+
+		assertThatThrownBy(() -> mandateStateMachine.transition(clientId, clientId, Action.COMPLETE))
+				.isInstanceOf(MandateTransitionException.class);
+
+		mandateStateMachine.transition(clientId, clientId, Action.REQUEST);
+		mandateStateMachine.transition(clientId, 99L, Action.SEND);
+		mandateStateMachine.transition(clientId, clientId, Action.COMPLETE);
+
+		List<MandateEvent> events = mandateEventMapper.findByUserId(clientId);
+		assertThat(events).extracting(MandateEvent::getAction).containsExactly("REQUEST", "SEND", "COMPLETE");
+		assertThat(events).extracting(MandateEvent::getVersion).containsExactly(1, 2, 3);
+		assertThat(events.get(1).getFromStatus()).isEqualTo("REQUESTED");
+		assertThat(userMapper.findMandateState(clientId).getMandateStatus()).isEqualTo("COMPLETED");
+	}
+
+	@Test
+	void reportsChangesSinceVersion() {
+		Long clientId = TestUsers.insert(userMapper, "sm-changes");
+		mandateChangeRegister.refresh();
+		long since = mandateChangeRegister.getLatestVersion();
+		assertThat(mandateService.getMandateChanges(since, null)).isNull();
+
+		MandateEvent event = mandateStateMachine.transition(clientId, clientId, Action.REQUEST);
+		assertThat(userMapper.findMandateChanges(since, Long.MAX_VALUE, 10))
+				.extracting(MandateListItem::getChangeVersion).containsExactly(event.getChangeVersion());
+		assertThat(mandateChangeRegister.getLatestVersion()).isGreaterThanOrEqualTo(event.getChangeVersion());
+
+		MandateChanges changes = mandateService.getMandateChanges(since, null);
+		assertThat(changes.getItems()).extracting(MandateListItem::getUserId).contains(clientId);
+		assertThat(changes.getVersion()).isEqualTo(mandateChangeRegister.getLatestVersion());
+		assertThat(mandateService.getMandateChanges(changes.getVersion(), null)).isNull();
+	}
+
+	@Test
+	void publishesOnlyCommittedVersionsToOtherNodes() throws Exception {
+		Long first = TestUsers.insert(userMapper, "sm-open");
+		Long second = TestUsers.insert(userMapper, "sm-next");
+		// 다른 노드의 레지스터 (DB에서 읽은 순번만 공개)
+		MandateChangeRegister peer = new MandateChangeRegister(mandateEventMapper);
+		peer.refresh();
+		long before = peer.getLatestVersion();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch firstTransitioned = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		try {
+			// 첫 번째 전이는 커밋하지 않고 열어 둠
+			Future<MandateEvent> open = executor.submit(() -> transactionTemplate.execute(status -> {
+				MandateEvent event = mandateStateMachine.transition(first, first, Action.REQUEST);
+				firstTransitioned.countDown();
+				try {
+					releaseFirst.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return event;
+			}));
+			assertThat(firstTransitioned.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// 두 번째 전이는 첫 번째가 끝날 때까지 순번을 받지 못함
+			Future<MandateEvent> next = executor.submit(() ->
+					mandateStateMachine.transition(second, second, Action.REQUEST));
+			Thread.sleep(300);
+			assertThat(next).isNotDone();
+			peer.refresh();
+			assertThat(peer.getLatestVersion()).isEqualTo(before);
+			assertThat(mandateChangeRegister.getLatestVersion()).isEqualTo(before);
+
+			releaseFirst.countDown();
+			MandateEvent firstEvent = open.get(10, TimeUnit.SECONDS);
+			MandateEvent secondEvent = next.get(10, TimeUnit.SECONDS);
+			assertThat(secondEvent.getChangeVersion()).isEqualTo(firstEvent.getChangeVersion() + 1);
+
+			peer.refresh();
+			assertThat(peer.getLatestVersion()).isEqualTo(secondEvent.getChangeVersion());
+			assertThat(userMapper.findMandateChanges(before, peer.getLatestVersion(), 10))
+					.extracting(MandateListItem::getUserId).containsExactly(first, second);
+		} finally {
+			releaseFirst.countDown();
+			executor.shutdownNow();
+		}
+
+		// 실패한 전이는 순번을 남기지 않음
+		long committed = mandateEventMapper.findChangeVersion();
+		assertThatThrownBy(() -> mandateStateMachine.transition(first, first, Action.COMPLETE))
+				.isInstanceOf(MandateTransitionException.class);
+		assertThat(mandateEventMapper.findChangeVersion()).isEqualTo(committed);
+	}
+
+	@Test
+	void concurrentTransitionsHaveExactlyOneWinner() throws Exception {
+		Long clientId = TestUsers.insert(userMapper, "sm-race");
+		mandateStateMachine.transition(clientId, clientId, Action.REQUEST);
+
+		int accountants = 100;
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger winners = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < accountants; i++) {
+				long actorId = 1000L + i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					try {
+						mandateStateMachine.transition(clientId, actorId, Action.SEND);
+						winners.incrementAndGet();
+					} catch (RuntimeException e) {
+						// 상태 불일치/버전 충돌/잠금 충돌 모두 실패로 간주
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(winners.get()).isEqualTo(1);
+		assertThat(mandateEventMapper.findByUserId(clientId))
+				.filteredOn(event -> "SEND".equals(event.getAction()))
+				.hasSize(1);
+		assertThat(userMapper.findMandateState(clientId).getMandateVersion()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,131 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.MandateListItem;
+import com.taxplatform.exception.MandateTransitionException;
+import com.taxplatform.mapper.MandateClaimMapper;
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.service.MandateStateMachine.Action;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MandateWorkQueueTests {
+
+	private static final AtomicLong ACCOUNTANT_IDS = new AtomicLong(System.nanoTime());
+
+	@Autowired
+	private MandateWorkQueue mandateWorkQueue;
+
+	@Autowired
+	private MandateStateMachine mandateStateMachine;
+
+	@Autowired
+	private MandateClaimMapper mandateClaimMapper;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void claimsOldestRequestsFirst() {
+		List<Long> clients = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Long clientId = TestUsers.insert(userMapper, "fifo");
+			mandateStateMachine.transition(clientId, clientId, Action.REQUEST);
+			clients.add(clientId);
+		}
+		// 나중에 추가된 회원이 먼저 신청한 것으로 (다른 테스트의 대기열보다 앞)
+		for (int i = 0; i < clients.size(); i++) {
+			jdbcTemplate.update("UPDATE mandate_claims SET enqueued_at = ? WHERE user_id = ?",
+					"2000-01-0" + (3 - i) + " 00:00:00", clients.get(i));
+		}
+
+		assertThat(mandateWorkQueue.claim(ACCOUNTANT_IDS.incrementAndGet(), 2).getItems())
+				.extracting(MandateListItem::getUserId)
+				.containsExactly(clients.get(2), clients.get(1));
+	}
+
+	@Test
+	void concurrentClaimsHandOutDisjointBatches() throws Exception {
+		Set<Long> requested = new HashSet<>();
+		for (int i = 0; i < 20; i++) {
+			Long clientId = TestUsers.insert(userMapper, "queue");
+			mandateStateMachine.transition(clientId, clientId, Action.REQUEST);
+			requested.add(clientId);
+		}
+
+		int accountants = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(accountants);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<List<Long>>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < accountants; i++) {
+				long accountantId = ACCOUNTANT_IDS.incrementAndGet();
+				futures.add(executor.submit(() -> {
+					start.await();
+					return mandateWorkQueue.claim(accountantId, 50).getItems().stream()
+							.map(MandateListItem::getUserId)
+							.toList();
+				}));
+			}
+			start.countDown();
+
+			Set<Long> claimed = new HashSet<>();
+			for (Future<List<Long>> future : futures) {
+				for (Long userId : future.get()) {
+					// 같은 회원이 두 세무사에게 배정되지 않음
+					assertThat(claimed.add(userId)).isTrue();
+				}
+			}
+			assertThat(claimed).containsAll(requested);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void claimIsExclusiveUntilLeaseExpires() {
+		Long clientId = TestUsers.insert(userMapper, "lease");
+		mandateStateMachine.transition(clientId, clientId, Action.REQUEST);
+		long owner = ACCOUNTANT_IDS.incrementAndGet();
+		long other = ACCOUNTANT_IDS.incrementAndGet();
+
+		// 이미 만료된 배정을 만드는 대기열 (lease -1초)
+		MandateWorkQueue expiringQueue = new MandateWorkQueue(mandateClaimMapper, -1, 50, 50);
+		expiringQueue.claim(owner, 50);
+		mandateWorkQueue.checkClaim(clientId, other);
+
+		assertThat(mandateWorkQueue.claim(owner, 50).getItems())
+				.extracting(MandateListItem::getUserId).contains(clientId);
+		assertThatThrownBy(() -> mandateWorkQueue.checkClaim(clientId, other))
+				.isInstanceOf(MandateTransitionException.class);
+		assertThat(mandateWorkQueue.claim(other, 50).getItems())
+				.extracting(MandateListItem::getUserId).doesNotContain(clientId);
+
+		// 요청 전송으로 REQUESTED를 벗어나면 대기열에서 제거
+		mandateStateMachine.transition(clientId, owner, Action.SEND);
+		assertThat(mandateClaimMapper.findActiveClaimant(clientId)).isNull();
+		assertThat(mandateWorkQueue.claim(owner, 50).getItems())
+				.extracting(MandateListItem::getUserId).doesNotContain(clientId);
+	}
+}
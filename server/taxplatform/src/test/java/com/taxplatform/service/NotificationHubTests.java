@@ -0,0 +1,62 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.Notification;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class NotificationHubTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private NotificationHub notificationHub;
+
+	@Test
+	void pushesNotificationsToSubscribedUserOnly() throws Exception {
+		long userId = System.nanoTime();
+		MvcResult result = mockMvc.perform(get("/api/notifications/stream").param("userId", String.valueOf(userId)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		MockHttpServletResponse response = result.getResponse();
+		assertThat(response.getContentAsString()).contains("event:connected");
+		assertThat(notificationHub.countConnections(userId)).isEqualTo(1);
+
+		notificationHub.publish(notification(userId + 1, 41L, "다른 사용자"));
+		notificationHub.publish(notification(userId, 42L, "수임 동의 요청"));
+
+		awaitContent(response, "id:42");
+		assertThat(response.getContentAsString())
+				.contains("event:notification")
+				.doesNotContain("id:41");
+	}
+
+	private Notification notification(Long userId, Long notificationId, String message) {
+		Notification notification = new Notification(userId, null, "TAX_TO_CLIENT", message);
+		notification.setNotificationId(notificationId);
+		return notification;
+	}
+
+	private void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+		for (int i = 0; i < 50; i++) {
+			if (response.getContentAsString().contains(expected)) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("SSE 응답에 " + expected + " 이(가) 없습니다: " + response.getContentAsString());
+	}
+}
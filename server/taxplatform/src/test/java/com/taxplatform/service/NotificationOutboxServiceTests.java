@@ -0,0 +1,94 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.NotificationOutboxEvent;
+import com.taxplatform.mapper.NotificationOutboxMapper;
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationOutboxServiceTests {
+
+	@Autowired
+	private NotificationOutboxService outboxService;
+
+	@Autowired
+	private NotificationOutboxMapper outboxMapper;
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private NotificationRetentionService retentionService;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void redispatchDoesNotDuplicateNotifications() throws Exception {
+		Long userId = TestUsers.insert(userMapper, "outbox");
+		NotificationOutboxEvent event = NotificationOutboxEvent.toUser(userId, null, "TAX_TO_CLIENT", "수임 동의 요청");
+		outboxMapper.insertEvent(event);
+
+		// 이전 실행에서 알람은 생성되었지만 완료 표시가 누락된 상황
+		notificationService.createNotifications(List.of(userId), null, "TAX_TO_CLIENT", "수임 동의 요청", event.getEventId());
+		assertThatThrownBy(() -> notificationService.createNotifications(List.of(userId), null,
+				"TAX_TO_CLIENT", "수임 동의 요청", event.getEventId()))
+				.isInstanceOf(DuplicateKeyException.class);
+		// 실패한 생성의 카운터 증가는 함께 롤백
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(1);
+
+		outboxService.wakeUp();
+		awaitStatus(event.getEventId(), "DONE");
+
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM notifications WHERE source_event_id = ?", Integer.class, event.getEventId()))
+				.isEqualTo(1);
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(1);
+	}
+
+	@Test
+	void purgesOnlyExpiredDoneEvents() throws Exception {
+		Long userId = TestUsers.insert(userMapper, "purge");
+		NotificationOutboxEvent expired = NotificationOutboxEvent.toUser(userId, null, "TAX_TO_CLIENT", "오래된 이벤트");
+		outboxService.enqueue(expired);
+		NotificationOutboxEvent recent = NotificationOutboxEvent.toUser(userId, null, "TAX_TO_CLIENT", "최근 이벤트");
+		outboxService.enqueue(recent);
+		awaitStatus(expired.getEventId(), "DONE");
+		awaitStatus(recent.getEventId(), "DONE");
+
+		jdbcTemplate.update("UPDATE notification_outbox SET next_attempt_at = TIMESTAMPADD(DAY, -30, NOW()), "
+				+ "processed_at = TIMESTAMPADD(DAY, -30, NOW()) WHERE event_id = ?", expired.getEventId());
+		retentionService.purgeProcessedOutbox();
+
+		assertThat(jdbcTemplate.queryForList("SELECT event_id FROM notification_outbox WHERE event_id IN (?, ?)",
+				Long.class, expired.getEventId(), recent.getEventId()))
+				.containsExactly(recent.getEventId());
+	}
+
+	private void awaitStatus(Long eventId, String status) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			String current = jdbcTemplate.queryForObject(
+					"SELECT status FROM notification_outbox WHERE event_id = ?", String.class, eventId);
+			if (status.equals(current)) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("outbox 이벤트가 " + status + " 상태가 되지 않았습니다: eventId=" + eventId);
+	}
+}
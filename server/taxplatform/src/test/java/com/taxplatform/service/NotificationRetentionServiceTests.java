@@ -0,0 +1,60 @@
+package com.taxplatform.service;
+
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NotificationRetentionServiceTests {
+
+	@Autowired
+	private NotificationRetentionService retentionService;
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void movesOnlyOldReadNotificationsToArchive() {
+		Long userId = TestUsers.insert(userMapper, "archive");
+		Long oldRead = create(userId, "오래된 읽은 알람");
+		Long oldUnderWatermark = create(userId, "오래된 모두 읽음 알람");
+		Long oldUnread = create(userId, "오래된 읽지 않은 알람");
+		Long recentRead = create(userId, "최근 읽은 알람");
+
+		notificationService.markAsRead(oldRead);
+		notificationService.markAsRead(recentRead);
+		// 읽음 기준 ID 이하는 is_read와 관계없이 읽은 알람
+		jdbcTemplate.update("UPDATE notification_unread_counts SET read_watermark = ? WHERE user_id = ?",
+				oldUnderWatermark, userId);
+		jdbcTemplate.update("UPDATE notifications SET created_at = TIMESTAMPADD(DAY, -120, NOW()) WHERE notification_id IN (?, ?, ?)",
+				oldRead, oldUnderWatermark, oldUnread);
+
+		retentionService.archiveExpired();
+
+		assertThat(jdbcTemplate.queryForList("SELECT notification_id FROM notifications WHERE user_id = ? ORDER BY notification_id",
+				Long.class, userId)).containsExactly(oldUnread, recentRead);
+		assertThat(jdbcTemplate.queryForList("SELECT notification_id FROM notifications_archive WHERE user_id = ? ORDER BY notification_id",
+				Long.class, userId)).containsExactly(oldRead, oldUnderWatermark);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications_archive WHERE user_id = ? AND is_read = FALSE",
+				Integer.class, userId)).isZero();
+	}
+
+	private Long create(Long userId, String message) {
+		return notificationService.createNotification(userId, null, "TAX_TO_CLIENT", message).getNotificationId();
+	}
+}
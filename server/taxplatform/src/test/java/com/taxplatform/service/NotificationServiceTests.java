@@ -0,0 +1,103 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.Notification;
+import com.taxplatform.mapper.NotificationMapper;
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NotificationServiceTests {
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private NotificationUnreadCountService unreadCountService;
+
+	@Autowired
+	private NotificationMapper notificationMapper;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void unreadCountFollowsCreateReadMarkAllAndReconcile() {
+		Long userId = TestUsers.insert(userMapper, "counter");
+		Long first = notificationService.createNotification(userId, null, "TAX_TO_CLIENT", "알람1").getNotificationId();
+		Long second = notificationService.createNotification(userId, null, "TAX_TO_CLIENT", "알람2").getNotificationId();
+		Long third = notificationService.createNotification(userId, null, "TAX_TO_CLIENT", "알람3").getNotificationId();
+		notificationService.createNotifications(List.of(userId, userId), null, "TAX_TO_CLIENT", "일괄");
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(5);
+
+		// 같은 알람을 두 번 읽어도 한 번만 감소
+		notificationService.markAsRead(first);
+		notificationService.markAsRead(first);
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(4);
+		notificationService.markAsRead(userId, List.of(first, second));
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(3);
+
+		// 읽음 기준 ID까지 모두 읽음: 남은 것은 일괄 생성한 2건
+		notificationService.markAllAsRead(userId, third);
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(2);
+		List<Notification> page = notificationService.getNotifications(userId, null, null);
+		assertThat(page).extracting(Notification::getIsRead).containsExactly(false, false, true, true, true);
+
+		// 아직 없는 알람 ID까지 읽음 처리할 수 없음
+		Long newest = page.get(0).getNotificationId();
+		assertThatThrownBy(() -> notificationService.markAllAsRead(userId, newest + 1000))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(2);
+
+		// 모두 읽음 이후 생성된 알람은 읽지 않은 알람으로 보이고, 개별 읽음 처리로 감소
+		Long later = notificationService.createNotification(userId, null, "TAX_TO_CLIENT", "알람4").getNotificationId();
+		assertThat(notificationService.getNotifications(userId, null, 1))
+				.extracting(Notification::getIsRead).containsExactly(false);
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(3);
+		notificationService.markAsRead(later);
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(2);
+
+		// 어긋난 카운터는 재계산으로 복구
+		jdbcTemplate.update("UPDATE notification_unread_counts SET unread_count = 99 WHERE user_id = ?", userId);
+		// 카운터 행 없이 들어간 알람도 재계산에서 행을 만들어 집계
+		Long legacyUserId = TestUsers.insert(userMapper, "legacy");
+		notificationMapper.insertNotification(new Notification(legacyUserId, null, "TAX_TO_CLIENT", "이전 알람"));
+		unreadCountService.reconcile();
+		assertThat(notificationService.getUnreadCount(userId)).isEqualTo(2);
+		assertThat(notificationService.getUnreadCount(legacyUserId)).isEqualTo(1);
+	}
+
+	@Test
+	void pagesNotificationsByCursor() {
+		Long userId = TestUsers.insert(userMapper, "keyset");
+		List<Long> created = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			created.add(notificationService.createNotification(userId, null, "TAX_TO_CLIENT", "알람" + i).getNotificationId());
+		}
+
+		List<Notification> firstPage = notificationService.getNotifications(userId, null, null);
+		assertThat(firstPage).hasSize(20);
+		assertThat(firstPage.get(0).getNotificationId()).isEqualTo(created.get(24));
+
+		List<Notification> secondPage = notificationService.getNotifications(userId,
+				firstPage.get(firstPage.size() - 1).getNotificationId(), null);
+		assertThat(secondPage).extracting(Notification::getNotificationId)
+				.containsExactly(created.get(4), created.get(3), created.get(2), created.get(1), created.get(0));
+	}
+}
@@ -0,0 +1,45 @@
+package com.taxplatform.service;
+
+import com.taxplatform.exception.ServiceBusyException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTests {
+
+	// SHA-256("password") - 이전 방식 해시
+	private static final String LEGACY_HASH = "5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8";
+
+	@Test
+	void matchesLegacyHashAndRequestsRehash() {
+		PasswordHashingService service = new PasswordHashingService(4, 1, 4, 3000);
+
+		assertThat(service.matches("password", LEGACY_HASH)).isTrue();
+		assertThat(service.matches("wrong", LEGACY_HASH)).isFalse();
+		assertThat(service.needsRehash(LEGACY_HASH)).isTrue();
+	}
+
+	@Test
+	void hashesWithBcrypt() {
+		PasswordHashingService service = new PasswordHashingService(4, 1, 4, 3000);
+
+		String hash = service.hash("password");
+		assertThat(hash).startsWith("$2a$04$");
+		assertThat(service.matches("password", hash)).isTrue();
+		assertThat(service.matches("wrong", hash)).isFalse();
+		assertThat(service.needsRehash(hash)).isFalse();
+		assertThat(new PasswordHashingService(5, 1, 4, 3000).needsRehash(hash)).isTrue();
+	}
+
+	@Test
+	void rejectsWhenSaturated() {
+		PasswordHashingService service = new PasswordHashingService(14, 1, 1, 3000);
+
+		service.hashAsync("first");
+		service.hashAsync("second");
+
+		assertThatThrownBy(() -> service.hash("third")).isInstanceOf(ServiceBusyException.class);
+		service.shutdown();
+	}
+}
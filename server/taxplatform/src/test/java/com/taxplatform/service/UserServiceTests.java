@@ -0,0 +1,65 @@
+package com.taxplatform.service;
+
+import com.taxplatform.domain.User;
+import com.taxplatform.mapper.UserMapper;
+import com.taxplatform.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Test
+	void rehashesLegacyPasswordAfterLogin() throws Exception {
+		User user = TestUsers.newUser("legacy");
+		user.setPassword(HexFormat.of().formatHex(
+				MessageDigest.getInstance("SHA-256").digest("pass1234".getBytes(StandardCharsets.UTF_8))));
+		userMapper.insertUser(user);
+
+		assertThat(userService.login(user.getUsername(), "pass1234").getUserId()).isEqualTo(user.getUserId());
+
+		// 해싱 스레드 풀이 만든 해시를 저장 전용 스레드가 기록
+		for (int i = 0; i < 50 && !userMapper.findAuthById(user.getUserId()).getPassword().startsWith("$2"); i++) {
+			Thread.sleep(100);
+		}
+		assertThat(userMapper.findAuthById(user.getUserId()).getPassword()).startsWith("$2");
+		assertThat(userService.login(user.getUsername(), "pass1234").getUserId()).isEqualTo(user.getUserId());
+	}
+
+	@Test
+	void reportsWhichFieldIsAlreadyTaken() {
+		User existing = TestUsers.newUser("dup");
+		existing.setPassword("pass1234");
+		userService.register(existing);
+
+		User sameEmail = TestUsers.newUser("dup-email");
+		sameEmail.setEmail(existing.getEmail());
+		sameEmail.setPassword("pass1234");
+		assertThatThrownBy(() -> userService.register(sameEmail))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("이미 사용 중인 이메일입니다.");
+
+		User sameUsername = TestUsers.newUser("dup-username");
+		sameUsername.setUsername(existing.getUsername());
+		sameUsername.setPassword("pass1234");
+		assertThatThrownBy(() -> userService.register(sameUsername))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("이미 사용 중인 사용자명입니다.");
+	}
+}
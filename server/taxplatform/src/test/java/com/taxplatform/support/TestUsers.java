@@ -0,0 +1,39 @@
+package com.taxplatform.support;
+
+import com.taxplatform.domain.User;
+import com.taxplatform.mapper.UserMapper;
+
+/**
+ * 테스트용 회원 생성 (users 필수 컬럼이 바뀌면 여기만 고친다)
+ */
+public final class TestUsers {
+
+	private TestUsers() {
+	}
+
+	/**
+	 * 필수 항목을 채운 회원 (아이디/이메일은 prefix 뒤에 고유값을 붙여 다른 테스트와 겹치지 않게 함)
+	 * @param prefix 아이디 접두어
+	 * @return 저장하지 않은 User 객체
+	 */
+	public static User newUser(String prefix) {
+		String username = prefix + "-" + System.nanoTime();
+		User user = new User(username, username + "@test.com", "hash", "회원");
+		user.setResidentNumber("900101-1234567");
+		user.setPhoneNumber("01012345678");
+		user.setUserType("NON_BUSINESS");
+		return user;
+	}
+
+	/**
+	 * 회원 저장
+	 * @param userMapper UserMapper
+	 * @param prefix 아이디 접두어
+	 * @return 저장된 사용자 ID
+	 */
+	public static Long insert(UserMapper userMapper, String prefix) {
+		User user = newUser(prefix);
+		userMapper.insertUser(user);
+		return user.getUserId();
+	}
+}
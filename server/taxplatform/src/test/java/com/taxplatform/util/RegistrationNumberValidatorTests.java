@@ -0,0 +1,41 @@
+package com.taxplatform.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistrationNumberValidatorTests {
+
+	@Test
+	void validatesBusinessNumberChecksum() {
+		assertThat(RegistrationNumberValidator.validateBusinessNumber("220-81-62517").valid()).isTrue();
+		assertThat(RegistrationNumberValidator.validateBusinessNumber("1248100998").valid()).isTrue();
+		assertThat(RegistrationNumberValidator.validateBusinessNumber("220-81-62518").message())
+				.isEqualTo("유효하지 않은 사업자등록번호입니다.");
+	}
+
+	@Test
+	void rejectsMalformedBusinessNumber() {
+		assertThat(RegistrationNumberValidator.validateBusinessNumber("").message())
+				.isEqualTo("사업자등록번호를 입력해주세요.");
+		assertThat(RegistrationNumberValidator.validateBusinessNumber("220-81-6251").message())
+				.isEqualTo("사업자등록번호는 10자리여야 합니다.");
+		assertThat(RegistrationNumberValidator.validateBusinessNumber("220-81-6251A").message())
+				.isEqualTo("사업자등록번호는 숫자만 입력 가능합니다.");
+	}
+
+	@Test
+	void validatesCorporateNumberChecksum() {
+		assertThat(RegistrationNumberValidator.validateCorporateNumber("110111-0032154").valid()).isTrue();
+		assertThat(RegistrationNumberValidator.validateCorporateNumber("110111-1234567").message())
+				.isEqualTo("유효하지 않은 법인등록번호입니다.");
+		assertThat(RegistrationNumberValidator.validateCorporateNumber("110111-003215").message())
+				.isEqualTo("법인등록번호는 13자리여야 합니다.");
+	}
+
+	@Test
+	void returnsSharedResultInstances() {
+		assertThat(RegistrationNumberValidator.validateBusinessNumber("2208162517"))
+				.isSameAs(RegistrationNumberValidator.validateBusinessNumber("1248100998"));
+	}
+}